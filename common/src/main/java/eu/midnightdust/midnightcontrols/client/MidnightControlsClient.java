@@ -18,9 +18,12 @@ import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonCategory;
 import eu.midnightdust.midnightcontrols.client.controller.Controller;
+import eu.midnightdust.midnightcontrols.client.controller.ControllerTypeMatcher;
 import eu.midnightdust.midnightcontrols.client.controller.InputManager;
 import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsHud;
+import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsRenderer;
 import eu.midnightdust.midnightcontrols.client.gui.RingScreen;
+import eu.midnightdust.midnightcontrols.client.touch.gui.TouchLayout;
 import eu.midnightdust.midnightcontrols.client.touch.gui.TouchscreenOverlay;
 import eu.midnightdust.midnightcontrols.client.mixin.KeyBindingIDAccessor;
 import eu.midnightdust.midnightcontrols.client.ring.ButtonBindingRingAction;
@@ -29,7 +32,9 @@ import eu.midnightdust.midnightcontrols.client.util.platform.NetworkUtil;
 import net.minecraft.client.gui.screen.Screen;
 import org.thinkingstudio.obsidianui.hud.HudManager;
 import eu.midnightdust.midnightcontrols.client.touch.TouchInput;
+import eu.midnightdust.midnightcontrols.client.util.BlockOutlines;
 import eu.midnightdust.midnightcontrols.client.util.RainbowColor;
+import eu.midnightdust.midnightcontrols.client.util.TranslationCache;
 import eu.midnightdust.midnightcontrols.packet.ControlsModePayload;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
@@ -68,8 +73,6 @@ public class MidnightControlsClient extends MidnightControls {
     public static final Identifier CONTROLLER_BUTTONS = id("textures/gui/controller_buttons.png");
     public static final Identifier CONTROLLER_EXPANDED = id("textures/gui/controller_expanded.png");
     public static final Identifier CONTROLLER_AXIS = id("textures/gui/controller_axis.png");
-    public static final Identifier WAYLAND_CURSOR_TEXTURE_LIGHT = id("cursor/light/mouse_pointer");
-    public static final Identifier WAYLAND_CURSOR_TEXTURE_DARK = id("cursor/dark/mouse_pointer");
     public static final File MAPPINGS_FILE = new File("config/gamecontrollercustommappings.txt");
     public static final MinecraftClient client = MinecraftClient.getInstance();
     public static final MidnightInput input = new MidnightInput();
@@ -90,7 +93,6 @@ public class MidnightControlsClient extends MidnightControls {
                 if (lateInitDone && client.isRunning()) {
                     if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER && (client.isWindowFocused() || MidnightControlsConfig.unfocusedInput)) {
                         input.tickCameraStick();
-                        input.updateCamera();
                     }
                 }
             }
@@ -181,8 +183,10 @@ public class MidnightControlsClient extends MidnightControls {
      */
     public static void onTick(@NotNull MinecraftClient client) {
         initKeybindings();
+        ControllerTypeMatcher.update(MidnightControlsConfig.getController());
         input.tick();
         reacharound.tick();
+        BlockOutlines.tick(client);
         if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER && (client.isWindowFocused() || MidnightControlsConfig.unfocusedInput))
             input.tickController();
 
@@ -210,10 +214,23 @@ public class MidnightControlsClient extends MidnightControls {
             client.skipGameRender = false;
             client.currentScreen = screen;
         } else if (screen != null) {
+            // The release of a touch started in the world is not received by the screen, so its gesture is dropped.
+            if (!(screen instanceof TouchscreenOverlay)) TouchInput.gestures.cancel();
             MidnightControlsClient.input.onScreenOpen(client.getWindow().getWidth(), client.getWindow().getHeight());
         }
     }
 
+    /**
+     * Called when the client resources are reloaded.
+     */
+    public static void onResourceReload() {
+        MidnightControlsRenderer.clearSpriteCache();
+        TranslationCache.clear();
+        TouchLayout.clear();
+        if (hud != null)
+            hud.init(client, client.getWindow().getScaledWidth(), client.getWindow().getScaledHeight());
+    }
+
     /**
      * Called when leaving a server.
      */
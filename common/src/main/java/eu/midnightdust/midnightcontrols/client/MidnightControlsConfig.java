@@ -11,7 +11,6 @@ package eu.midnightdust.midnightcontrols.client;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.mojang.blaze3d.platform.GlDebugInfo;
 import eu.midnightdust.lib.config.MidnightConfig;
 import eu.midnightdust.midnightcontrols.ControlsMode;
 import eu.midnightdust.midnightcontrols.MidnightControls;
@@ -19,6 +18,7 @@ import eu.midnightdust.midnightcontrols.MidnightControlsConstants;
 import eu.midnightdust.midnightcontrols.MidnightControlsFeature;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.controller.Controller;
+import eu.midnightdust.midnightcontrols.client.controller.ControllerTypeMatcher;
 import eu.midnightdust.midnightcontrols.client.controller.InputManager;
 import eu.midnightdust.midnightcontrols.client.enums.ButtonState;
 import eu.midnightdust.midnightcontrols.client.enums.CameraMode;
@@ -80,6 +80,7 @@ public class MidnightControlsConfig extends MidnightConfig {
     @Entry(category = CONTROLLER, name = "midnightcontrols.menu.rotation_speed", isSlider = true, min = 0, max = 100, precision = 10) public static double rotationSpeed = 35.0; //used for x-axis, name kept for compatibility
     @Entry(category = CONTROLLER, name = "midnightcontrols.menu.y_axis_rotation_speed", isSlider = true, min = 0, max = 100, precision = 10) public static double yAxisRotationSpeed = rotationSpeed;
     @Entry(category = CONTROLLER, name = "midnightcontrols.menu.camera_mode") public static CameraMode cameraMode = CameraMode.FLAT;
+    @Entry(category = CONTROLLER, name = "Camera Prediction") public static boolean cameraPrediction = true;
     @Entry(category = SCREENS, name = "midnightcontrols.menu.mouse_speed", isSlider = true, min = 0, max = 150, precision = 10) public static double mouseSpeed = 25.0;
     @Entry(category = SCREENS, name = "midnightcontrols.menu.joystick_as_mouse") public static boolean joystickAsMouse = false;
     @Entry(category = SCREENS, name = "midnightcontrols.menu.eye_tracker_as_mouse") public static boolean eyeTrackerAsMouse = false;
@@ -370,6 +371,7 @@ public class MidnightControlsConfig extends MidnightConfig {
         invertRightXAxis = false;
         rotationSpeed = 35.0;
         yAxisRotationSpeed = rotationSpeed;
+        cameraPrediction = true;
         mouseSpeed = 25.0;
         unfocusedInput = false;
         virtualMouse = false;
@@ -397,16 +399,16 @@ public class MidnightControlsConfig extends MidnightConfig {
      * @return the controller name matches a type, else empty
      */
     public static @NotNull ControllerType matchControllerToType() {
-        String controller = getController().getName().toLowerCase();
-        if (controller.contains("xbox 360")) return ControllerType.XBOX_360;
-        else if (controller.contains("xbox") || controller.contains("afterglow")) return ControllerType.XBOX;
-        else if (controller.contains("steam") && GlDebugInfo.getCpuInfo().contains("AMD Custom APU")) return ControllerType.STEAM_DECK;
-        else if (controller.contains("steam")) return ControllerType.STEAM_CONTROLLER;
-        else if (controller.contains("dualsense") || controller.contains("ps5")) return ControllerType.DUALSENSE;
-        else if (controller.contains("dualshock") || controller.contains("ps4")  || controller.contains("sony")) return ControllerType.DUALSHOCK;
-        else if (controller.contains("switch") || controller.contains("joy-con")  || controller.contains("wii") || controller.contains("nintendo")) return ControllerType.SWITCH;
-        else if (controller.contains("ouya")) return ControllerType.OUYA;
-        else return ControllerType.DEFAULT;
+        return ControllerTypeMatcher.match(getController());
+    }
+
+    /**
+     * Gets the controller type used to display the buttons, either configured or detected from the used controller.
+     *
+     * @return the controller type
+     */
+    public static @NotNull ControllerType getControllerType() {
+        return controllerType == ControllerType.DEFAULT ? ControllerTypeMatcher.getCurrent() : controllerType;
     }
     public static boolean doMixedInput() {
         return touchInControllerMode && controlsMode == ControlsMode.CONTROLLER;
@@ -9,25 +9,20 @@
 
 package eu.midnightdust.midnightcontrols.client;
 
-import com.google.common.collect.ImmutableSet;
 import eu.midnightdust.lib.util.PlatformFunctions;
+import eu.midnightdust.midnightcontrols.client.camera.LookPipeline;
 import eu.midnightdust.midnightcontrols.client.compat.EmotecraftCompat;
 import eu.midnightdust.midnightcontrols.client.compat.LibGuiCompat;
 import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
 import eu.midnightdust.midnightcontrols.client.compat.YACLCompat;
-import eu.midnightdust.midnightcontrols.client.mixin.AdvancementsScreenAccessor;
-import eu.midnightdust.midnightcontrols.client.mixin.CreativeInventoryScreenAccessor;
 import eu.midnightdust.midnightcontrols.client.mixin.MouseAccessor;
 import eu.midnightdust.midnightcontrols.client.util.InventoryUtil;
 import eu.midnightdust.midnightcontrols.client.util.storage.AxisStorage;
 import eu.midnightdust.midnightcontrols.client.util.storage.ButtonStorage;
 import net.minecraft.client.gui.screen.option.KeybindsScreen;
-import net.minecraft.client.gui.widget.EntryListWidget;
 import net.minecraft.client.gui.widget.PressableWidget;
 import net.minecraft.client.gui.widget.SliderWidget;
 import net.minecraft.entity.vehicle.BoatEntity;
-import org.thinkingstudio.obsidianui.widget.AbstractSpruceWidget;
-import org.thinkingstudio.obsidianui.widget.container.SpruceEntryListWidget;
 import eu.midnightdust.midnightcontrols.MidnightControls;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.controller.Controller;
@@ -39,6 +34,9 @@ import eu.midnightdust.midnightcontrols.client.gui.widget.ControllerControlsWidg
 import eu.midnightdust.midnightcontrols.client.ring.RingPage;
 import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
 import eu.midnightdust.midnightcontrols.client.util.MathUtil;
+import eu.midnightdust.midnightcontrols.client.util.ScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.ScreenContext;
+import eu.midnightdust.midnightcontrols.client.util.ScreenScroller;
 import org.thinkingstudio.obsidianui.navigation.NavigationDirection;
 import org.thinkingstudio.obsidianui.screen.SpruceScreen;
 import org.thinkingstudio.obsidianui.widget.AbstractSprucePressableButtonWidget;
@@ -50,7 +48,6 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.Element;
 import net.minecraft.client.gui.ParentElement;
 import net.minecraft.client.gui.screen.Screen;
-import net.minecraft.client.gui.screen.advancement.AdvancementTab;
 import net.minecraft.client.gui.screen.advancement.AdvancementsScreen;
 import net.minecraft.client.gui.screen.ingame.CreativeInventoryScreen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
@@ -59,16 +56,13 @@ import net.minecraft.client.gui.screen.ingame.StonecutterScreen;
 import net.minecraft.client.gui.screen.multiplayer.MultiplayerScreen;
 import net.minecraft.client.gui.screen.multiplayer.MultiplayerServerListWidget;
 import net.minecraft.client.gui.screen.world.WorldListWidget;
-import net.minecraft.text.TranslatableTextContent;
 import net.minecraft.util.math.MathHelper;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWGamepadState;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import static eu.midnightdust.midnightcontrols.client.MidnightControlsClient.client;
 import static org.lwjgl.glfw.GLFW.*;
@@ -82,6 +76,12 @@ import static org.lwjgl.glfw.GLFW.*;
  */
 public class MidnightInput {
     public static final Map<Integer, Integer> BUTTON_COOLDOWNS = new HashMap<>();
+    // The look steps are expressed per camera tick, which runs 1000 times a second.
+    private static final double LOOK_STEP_RATE = 0.175 * 1000;
+    // A touch drag used to be held as a look step until the next client tick, so for 25 camera ticks on average.
+    private static final double TOUCH_LOOK_SCALE = 0.175 * 25;
+    // The cursor steps are expressed per client tick, which runs 20 times a second.
+    private static final double CURSOR_STEP_RATE = 20.0;
     // Cooldowns
     public int actionGuiCooldown = 0;
     public int joystickCooldown = 0;
@@ -97,6 +97,8 @@ public class MidnightInput {
     public int screenCloseCooldown = 0;
 
     private ControllerControlsWidget controlsInput = null;
+    public final ScreenScroller scroller = new ScreenScroller();
+    public final LookPipeline look = new LookPipeline();
 
     public MidnightInput() {}
 
@@ -104,20 +106,21 @@ public class MidnightInput {
      * This method is called every Minecraft tick.
      */
     public void tick() {
-        this.targetYaw = 0.F;
-        this.targetPitch = 0.F;
+        double yaw = 0.0;
+        double pitch = 0.0;
 
         // Handles the key bindings.
         if (MidnightControlsClient.BINDING_LOOK_UP.isPressed()) {
-            this.handleFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_Y, -0.8F, 0d));
+            pitch = this.getFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_Y, -0.8F, 0d));
         } else if (MidnightControlsClient.BINDING_LOOK_DOWN.isPressed()) {
-            this.handleFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_Y, 0.8F, 0d));
+            pitch = this.getFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_Y, 0.8F, 0d));
         }
         if (MidnightControlsClient.BINDING_LOOK_LEFT.isPressed()) {
-            this.handleFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_X, -0.8F, 0d));
+            yaw = this.getFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_X, -0.8F, 0d));
         } else if (MidnightControlsClient.BINDING_LOOK_RIGHT.isPressed()) {
-            this.handleFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_X, 0.8F, 0d));
+            yaw = this.getFlatLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_X, 0.8F, 0d));
         }
+        this.look.pushVelocity(LookPipeline.Source.LOOK_KEYS, System.nanoTime(), yaw * LOOK_STEP_RATE, pitch * LOOK_STEP_RATE);
 
         InputManager.INPUT_MANAGER.tick();
     }
@@ -200,31 +203,20 @@ public class MidnightInput {
         if (!isScreenInteractive(screen)) {
             InputManager.INPUT_MANAGER.updateMousePosition(client);
         }
+        this.scroller.update(client, screen, System.nanoTime());
     }
 
     /**
-     * This method is called to update the camera
+     * This method is called before each frame is rendered to apply the camera rotation of every look source.
      */
     public void updateCamera() {
-        if (!(client.currentScreen == null || client.currentScreen instanceof TouchscreenOverlay))
-            return;
-
         var player = client.player;
-        if (player == null)
+        if (player == null || !(client.currentScreen == null || client.currentScreen instanceof TouchscreenOverlay)) {
+            this.look.clear();
             return;
-
-        if (this.targetYaw != 0.f || this.targetPitch != 0.f) {
-            float rotationYaw = (float) (client.player.prevYaw + (this.targetYaw * 0.175));
-            float rotationPitch = (float) (client.player.prevPitch + (this.targetPitch * 0.175));
-            client.player.prevYaw = rotationYaw;
-            client.player.prevPitch = MathHelper.clamp(rotationPitch, -90.f, 90.f);
-            client.player.setYaw(rotationYaw);
-            client.player.setPitch(MathHelper.clamp(rotationPitch, -90.f, 90.f));
-            if (client.player.isRiding() && client.player.getVehicle() != null) {
-                client.player.getVehicle().onPassengerLookAround(client.player);
-            }
-            client.getTutorialManager().onUpdateMouse(this.targetPitch, this.targetYaw);
         }
+
+        this.look.apply(client, player, System.nanoTime());
     }
 
     /**
@@ -288,7 +280,7 @@ public class MidnightInput {
         float rightX = polarUtil.polarX;
         float rightY = polarUtil.polarY;
 
-        boolean isRadialMenu = client.currentScreen instanceof RingScreen || (PlatformFunctions.isModLoaded("emotecraft") && EmotecraftCompat.isEmotecraftScreen(client.currentScreen));
+        boolean isRadialMenu = ScreenContext.of(client.currentScreen).radialMenu();
 
         if (!isRadialMenu) {
             for (int i = cameraTick ? GLFW_GAMEPAD_AXIS_RIGHT_X : 0; i < (cameraTick ? GLFW_GAMEPAD_AXIS_LEFT_TRIGGER : GLFW_GAMEPAD_AXIS_RIGHT_X); i++) {
@@ -345,7 +337,7 @@ public class MidnightInput {
         }
 
         if (client.currentScreen != null && storage.state.isPressed() && storage.button == GLFW_GAMEPAD_BUTTON_Y &&
-                MidnightControlsConfig.arrowScreens.contains(client.currentScreen.getClass().getCanonicalName())) {
+                ScreenContext.of(client.currentScreen).arrowNav()) {
             pressKeyboardKey(client, GLFW.GLFW_KEY_ENTER);
             this.screenCloseCooldown = 5;
         }
@@ -357,7 +349,7 @@ public class MidnightInput {
                     case GLFW_GAMEPAD_BUTTON_DPAD_LEFT -> this.handleLeftRight(client.currentScreen, false);
                     case GLFW_GAMEPAD_BUTTON_DPAD_RIGHT -> this.handleLeftRight(client.currentScreen, true);
                 }
-                if (MidnightControlsConfig.wasdScreens.contains(client.currentScreen.getClass().getCanonicalName())) {
+                if (ScreenContext.of(client.currentScreen).wasdNav()) {
                     switch (storage.button) {
                         case GLFW_GAMEPAD_BUTTON_DPAD_UP -> pressKeyboardKey(client, GLFW.GLFW_KEY_W);
                         case GLFW_GAMEPAD_BUTTON_DPAD_DOWN -> pressKeyboardKey(client, GLFW.GLFW_KEY_S);
@@ -481,12 +473,12 @@ public class MidnightInput {
                     this.mouseSpeedY = 0.f;
                 }
 
-                if (Math.abs(this.mouseSpeedX) >= .05f || Math.abs(this.mouseSpeedY) >= .05f) {
-                    InputManager.queueMoveMousePosition(
-                            this.mouseSpeedX * MidnightControlsConfig.mouseSpeed,
-                            this.mouseSpeedY * MidnightControlsConfig.mouseSpeed
-                    );
-                }
+                // Every sample only carries its own axis, the cursor keeps moving on the other one.
+                var cursor = InputManager.INPUT_MANAGER.cursor;
+                if (storage.axis == GLFW_GAMEPAD_AXIS_LEFT_X)
+                    cursor.setVelocityX(Math.abs(this.mouseSpeedX) >= .05f ? this.mouseSpeedX * MidnightControlsConfig.mouseSpeed * CURSOR_STEP_RATE : 0.0);
+                else if (storage.axis == GLFW_GAMEPAD_AXIS_LEFT_Y)
+                    cursor.setVelocityY(Math.abs(this.mouseSpeedY) >= .05f ? this.mouseSpeedY * MidnightControlsConfig.mouseSpeed * CURSOR_STEP_RATE : 0.0);
 
                 InventoryUtil.moveMouseToClosestSlot(client.currentScreen);
             }
@@ -512,8 +504,6 @@ public class MidnightInput {
 
     private boolean handleScreenScrolling(Screen screen, AxisStorage storage) {
         if (screen == null) return false;
-        // @TODO allow rebinding to left stick
-        int preferredAxis = true ? GLFW_GAMEPAD_AXIS_RIGHT_Y : GLFW_GAMEPAD_AXIS_LEFT_Y;
 
         if (this.controlsInput != null && this.controlsInput.focusedBinding != null) {
             if (storage.buttonState != ButtonState.NONE && !this.controlsInput.currentButtons.contains(storage.getButtonId(storage.buttonState == ButtonState.PRESS))) {
@@ -528,82 +518,36 @@ public class MidnightInput {
                 this.controlsInput.waiting = false;
             }
             return true;
-        } else if (storage.absValue >= storage.deadZone) {
-            if (screen instanceof CreativeInventoryScreen creativeInventoryScreen) {
-                if (storage.axis == preferredAxis) {
-                    var accessor = (CreativeInventoryScreenAccessor) creativeInventoryScreen;
-                    if (accessor.midnightcontrols$hasScrollbar() && storage.absValue >= storage.deadZone) {
-                        creativeInventoryScreen.mouseScrolled(0.0, 0.0, 0, -(storage.value * 0.0175f));
+        }
+        // @TODO allow rebinding to left stick
+        if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_X || storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) {
+            float value = storage.absValue >= storage.deadZone ? storage.value : 0.f;
+            if (this.scroller.push(storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_X, value, System.nanoTime()) && value != 0.f)
+                return true;
+        }
+        if (storage.absValue >= storage.deadZone && !(screen instanceof CreativeInventoryScreen || screen instanceof AdvancementsScreen) && isScreenInteractive(screen)) {
+            if (joystickCooldown == 0) {
+                switch (storage.axis) {
+                    case GLFW_GAMEPAD_AXIS_LEFT_Y -> {
+                        this.changeFocus(screen, storage.value > 0 ? NavigationDirection.UP : NavigationDirection.DOWN);
+                        joystickCooldown = 4;
                     }
-                    return true;
-                }
-            } else if (screen instanceof AdvancementsScreen advancementsScreen) {
-                if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_X || storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) {
-                    var accessor = (AdvancementsScreenAccessor) advancementsScreen;
-                    AdvancementTab tab = accessor.getSelectedTab();
-                    tab.move(storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_X ? -storage.value * 1.0 : 0.0, storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y ? -storage.value * 5.0 : 0.0);
-                    return true;
-                }
-            } else if (screen != null) {
-                if (storage.axis == preferredAxis && !handleListWidgetScrolling(screen.children(), storage.value)) {
-                    try {
-                        screen.mouseScrolled(0.0, 0.0, 0, -(storage.value * 0.0175f));
-                    } catch (NullPointerException ignored) {}
-                } else if (isScreenInteractive(screen)) {
-                    if (joystickCooldown == 0) {
-                        switch (storage.axis) {
-                            case GLFW_GAMEPAD_AXIS_LEFT_Y -> {
-                                this.changeFocus(screen, storage.value > 0 ? NavigationDirection.UP : NavigationDirection.DOWN);
-                                joystickCooldown = 4;
-                            }
-                            case GLFW_GAMEPAD_AXIS_LEFT_X -> {
-                                this.handleLeftRight(screen, storage.value > 0);
-                                joystickCooldown = 4;
-                            }
-                        }
+                    case GLFW_GAMEPAD_AXIS_LEFT_X -> {
+                        this.handleLeftRight(screen, storage.value > 0);
+                        joystickCooldown = 4;
                     }
-                    return true;
                 }
             }
+            return true;
         }
         return false;
     }
     public void handleRadialMenu(float x, float y) {
-        int index = -1;
-        float border = 0.3f;
-        if (x < -border) {
-            index = 3;
-            if (y < -border) index = 0;
-            else if (y > border) index = 5;
-        } else if (x > border) {
-            index = 4;
-            if (y < -border) index = 2;
-            else if (y > border) index = 7;
-        } else {
-            if (y < -border) index = 1;
-            else if (y > border) index = 6;
-        }
-        if (client.currentScreen instanceof RingScreen && index > -1) RingPage.selected = index;
+        int index = RingPage.SELECTOR.select(x, y, 0.3f);
+        if (client.currentScreen instanceof RingScreen && index > -1) RingPage.selected = RingPage.getSlot(index);
         if (PlatformFunctions.isModLoaded("emotecraft") && EmotecraftCompat.isEmotecraftScreen(client.currentScreen)) EmotecraftCompat.handleEmoteSelector(index);
     }
 
-    public boolean handleListWidgetScrolling(List<? extends Element> children, float value) {
-        return children.stream().filter(element -> element instanceof SpruceEntryListWidget)
-                .map(element -> (SpruceEntryListWidget<?>) element)
-                .filter(AbstractSpruceWidget::isFocusedOrHovered)
-                .anyMatch(element -> {
-                    element.mouseScrolled(0.0, 0.0, 0, -value);
-                    return true;
-                }) ||
-                children.stream().filter(element -> element instanceof EntryListWidget)
-                    .map(element -> (EntryListWidget<?>) element)
-                    .filter(element -> element.getType().isFocused())
-                    .anyMatch(element -> {
-                        element.mouseScrolled(0.0, 0.0, 0, -value);
-                        return true;
-                    });
-    }
-
     public boolean handleAButton(@NotNull Screen screen, @NotNull Element focused) {
         if (focused instanceof PressableWidget widget) {
             widget.playDownSound(MinecraftClient.getInstance().getSoundManager());
@@ -707,15 +651,19 @@ public class MidnightInput {
         // Handles the look direction.
         if (MidnightControlsConfig.cameraMode == CameraMode.FLAT) handleFlatLook(storage);
         else handleAdaptiveLook(storage);
+        this.look.pushVelocity(LookPipeline.Source.STICK, System.nanoTime(), this.targetYaw * LOOK_STEP_RATE, this.targetPitch * LOOK_STEP_RATE);
         MidnightControlsCompat.handleCamera(this.targetYaw, this.targetPitch);
     }
     private void handleFlatLook(AxisStorage storage) {
-        if (storage.polarity != AxisStorage.Polarity.ZERO) {
-            double rotation = Math.pow(storage.value, 2.0) * 0.11D * storage.polarity.multiplier;
+        if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) this.targetPitch = this.getFlatLook(storage);
+        else this.targetYaw = this.getFlatLook(storage);
+    }
+    private double getFlatLook(AxisStorage storage) {
+        if (storage.polarity == AxisStorage.Polarity.ZERO) return 0.0;
+        double rotation = Math.pow(storage.value, 2.0) * 0.11D * storage.polarity.multiplier;
 
-            if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) this.targetPitch = rotation * MidnightControlsConfig.getRightYAxisSign() * MidnightControlsConfig.yAxisRotationSpeed / 2;
-            else this.targetYaw = rotation * MidnightControlsConfig.getRightXAxisSign() * MidnightControlsConfig.rotationSpeed / 2;
-        }
+        if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) return rotation * MidnightControlsConfig.getRightYAxisSign() * MidnightControlsConfig.yAxisRotationSpeed / 2;
+        else return rotation * MidnightControlsConfig.getRightXAxisSign() * MidnightControlsConfig.rotationSpeed / 2;
     }
     private void handleAdaptiveLook(AxisStorage storage) {
         if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_X) {
@@ -730,9 +678,8 @@ public class MidnightInput {
 
             double cursorDeltaX = 2 * xValue - this.prevX;
             double cursorDeltaY = 2 * yValue - this.prevY;
-            boolean slowdown = client.options.getPerspective().isFirstPerson() && Objects.requireNonNull(client.player).isUsingSpyglass();
-            double x = cursorDeltaX * xStep * (slowdown ? xStep : 1);
-            double y = cursorDeltaY * yStep * (slowdown ? yStep : 1);
+            double x = cursorDeltaX * xStep;
+            double y = cursorDeltaY * yStep;
 
             double powXValue = Math.pow(x, 2.0);
             double powYValue = Math.pow(y, 2.0);
@@ -740,11 +687,11 @@ public class MidnightInput {
             if (xPolarity != AxisStorage.Polarity.ZERO) {
                 double sign = MidnightControlsConfig.getRightXAxisSign() * MidnightControlsConfig.rotationSpeed;
                 this.targetYaw = sign * powXValue * 0.11D * xPolarity.multiplier;
-            }
+            } else this.targetYaw = 0.0;
             if (yPolarity != AxisStorage.Polarity.ZERO) {
                 double sign = MidnightControlsConfig.getRightYAxisSign() * MidnightControlsConfig.yAxisRotationSpeed;
                 this.targetPitch = sign * powYValue * 0.11D * yPolarity.multiplier;
-            }
+            } else this.targetPitch = 0.0;
 
             this.prevY = yValue;
             this.prevX = xValue;
@@ -752,15 +699,16 @@ public class MidnightInput {
     }
     public void handleTouchscreenLook(AxisStorage storage) {
         if (storage.polarity != AxisStorage.Polarity.ZERO) {
-            double rotation = storage.value * 0.11D * MidnightControlsConfig.touchSpeed/5;
+            double rotation = storage.value * 0.11D * MidnightControlsConfig.touchSpeed/5 * TOUCH_LOOK_SCALE;
 
-            if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) this.targetPitch = rotation;
-            else this.targetYaw = rotation;
+            if (storage.axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) this.look.pushDelta(LookPipeline.Source.TOUCH, System.nanoTime(), 0.0, rotation);
+            else this.look.pushDelta(LookPipeline.Source.TOUCH, System.nanoTime(), rotation, 0.0);
         }
     }
 
     private boolean changeFocus(@NotNull Screen screen, NavigationDirection direction) {
-        if (!isScreenInteractive(screen) && !screen.getClass().getCanonicalName().contains("me.jellysquid.mods.sodium.client.gui")) return false;
+        var context = ScreenContext.of(screen);
+        if (!context.interactive() && !context.alwaysNavigable()) return false;
         try {
             if (screen instanceof SpruceScreen spruceScreen) {
                 if (spruceScreen.onNavigation(direction, false)) {
@@ -768,6 +716,11 @@ public class MidnightInput {
                 }
                 return true;
             }
+            var focusGraph = ((ScreenAccessor) screen).midnightcontrols$getFocusGraph();
+            if (focusGraph != null && focusGraph.navigate(screen, direction)) {
+                this.actionGuiCooldown = 5;
+                return true;
+            }
             switch (direction) {
                 case UP -> pressKeyboardKey(screen, GLFW.GLFW_KEY_UP);
                 case DOWN -> pressKeyboardKey(screen, GLFW.GLFW_KEY_DOWN);
@@ -787,27 +740,16 @@ public class MidnightInput {
      * @return true if successful, else false
      */
     public boolean tryGoBack(@NotNull Screen screen) {
-        var set = ImmutableSet.of("gui.back", "gui.done", "gui.cancel", "gui.toTitle", "gui.toMenu");
         if (screen instanceof KeybindsScreen) return false;
 
-        return screen.children().stream().filter(element -> element instanceof PressableWidget)
-                .map(element -> (PressableWidget) element)
-                .filter(element -> element.getMessage() != null && element.getMessage().getContent() != null)
-                .anyMatch(element -> {
-                    if (element.getMessage().getContent() instanceof TranslatableTextContent translatableText) {
-                        if (set.stream().anyMatch(key -> translatableText.getKey().equals(key))) {
-                            element.onPress();
-                            return true;
-                        }
-                    }
-                    return false;
-                });
+        var back = ((ScreenAccessor) screen).midnightcontrols$getScreenActions().getBack();
+        if (back == null) return false;
+        back.onPress();
+        return true;
     }
 
     public static boolean isScreenInteractive(@NotNull Screen screen) {
-        return !(screen instanceof HandledScreen || MidnightControlsConfig.joystickAsMouse || MidnightControlsConfig.mouseScreens.stream().anyMatch(a -> screen.getClass().toString().contains(a))
-                || (screen instanceof SpruceScreen && ((SpruceScreen) screen).requiresCursor())
-                || MidnightControlsCompat.requireMouseOnScreen(screen));
+        return ScreenContext.of(screen).interactive();
     }
 
     public void pressKeyboardKey(MinecraftClient client, int key) {
@@ -12,6 +12,7 @@ package eu.midnightdust.midnightcontrols.client;
 import eu.midnightdust.midnightcontrols.MidnightControlsFeature;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
+import net.minecraft.block.ShapeContext;
 import net.minecraft.block.FluidBlock;
 import net.minecraft.block.SlabBlock;
 import net.minecraft.client.MinecraftClient;
@@ -25,6 +26,7 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.RaycastContext;
+import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,24 +39,120 @@ import static eu.midnightdust.midnightcontrols.client.MidnightControlsClient.cli
  * @since 1.3.2
  */
 public class MidnightReacharound {
+    private static final float VIEW_BUCKET_SIZE = 2.5f;
+    private static final int INVALIDATION_RADIUS = 8;
     private BlockHitResult lastReacharoundResult = null;
     private boolean lastReacharoundVertical = false;
     private boolean onSlab = false;
+    private boolean evaluated = false;
+    // The block hit by the vertical raycast only depends on the surroundings, the block position, eye height and view of the player,
+    // so it is reused until one of them changes. The hit itself is rebuilt against that block, as the view moves within a bucket.
+    private boolean cached = false;
+    private World cachedWorld = null;
+    private BlockPos cachedPos = null;
+    private float cachedEyeHeight = 0.f;
+    private int cachedYaw = 0;
+    private int cachedPitch = 0;
+    private BlockPos cachedHitPos = null;
 
+    /**
+     * Invalidates the reach around of the previous tick, it is evaluated again when next requested.
+     */
     public void tick() {
+        this.evaluated = false;
+    }
+
+    private void evaluate() {
+        if (this.evaluated)
+            return;
+        this.evaluated = true;
+        this.lastReacharoundResult = null;
+        this.lastReacharoundVertical = false;
+        if (!this.canReachAround()) {
+            this.cached = false;
+            return;
+        }
+
         this.lastReacharoundResult = this.tryVerticalReachAround();
         if (this.lastReacharoundResult == null) {
+            // Depends on the exact position of the player and of the crosshair, but only reads two block states.
             this.lastReacharoundResult = this.tryHorizontalReachAround();
             this.lastReacharoundVertical = false;
         } else this.lastReacharoundVertical = true;
     }
 
+    /**
+     * Casts the vertical reach around ray, reusing the block hit by the previous cast while the player stays in place.
+     * Misses are cast again every time.
+     *
+     * @param start the start of the ray
+     * @param end the end of the ray
+     * @return the block hit result, or {@code null} if the ray hit no block
+     */
+    private @Nullable BlockHitResult raycastVertical(@NotNull Vec3d start, @NotNull Vec3d end) {
+        var player = client.player;
+        var world = client.world;
+        var pos = player.getBlockPos();
+        float eyeHeight = player.getStandingEyeHeight();
+        int yaw = MathHelper.floor(MathHelper.wrapDegrees(player.getYaw()) / VIEW_BUCKET_SIZE);
+        int pitch = MathHelper.floor(player.getPitch() / VIEW_BUCKET_SIZE);
+        if (this.cached && this.cachedWorld == world && pos.equals(this.cachedPos) && eyeHeight == this.cachedEyeHeight
+                && yaw == this.cachedYaw && pitch == this.cachedPitch) {
+            var hit = world.getBlockState(this.cachedHitPos).getOutlineShape(world, this.cachedHitPos, ShapeContext.of(player))
+                    .raycast(start, end, this.cachedHitPos);
+            if (hit != null)
+                return hit;
+        }
+
+        var result = world.raycast(new RaycastContext(start, end, RaycastContext.ShapeType.OUTLINE, RaycastContext.FluidHandling.NONE, player));
+        // Misses are not cached, as the ray start moves within the block and may reach a block closer to the edge.
+        this.cached = result.getType() == HitResult.Type.BLOCK;
+        if (!this.cached)
+            return null;
+        this.cachedWorld = world;
+        this.cachedPos = pos;
+        this.cachedEyeHeight = eyeHeight;
+        this.cachedYaw = yaw;
+        this.cachedPitch = pitch;
+        this.cachedHitPos = result.getBlockPos();
+        return result;
+    }
+
+    /**
+     * Invalidates the cached reach around if a block changed near the player.
+     *
+     * @param pos the position of the changed block
+     */
+    public void onBlockUpdate(@NotNull BlockPos pos) {
+        if (this.cached && Math.abs(pos.getX() - this.cachedPos.getX()) <= INVALIDATION_RADIUS
+                && Math.abs(pos.getY() - this.cachedPos.getY()) <= INVALIDATION_RADIUS
+                && Math.abs(pos.getZ() - this.cachedPos.getZ()) <= INVALIDATION_RADIUS) {
+            this.cached = false;
+            this.evaluated = false;
+        }
+    }
+
+    /**
+     * Returns whether the preconditions shared by both reach arounds are met, without any raycast.
+     *
+     * @return {@code true} if a reach around may be possible, else {@code false}
+     */
+    private boolean canReachAround() {
+        if (!this.isReacharoundAvailable() || client.player == null || client.world == null || client.crosshairTarget == null
+                || client.crosshairTarget.getType() != HitResult.Type.MISS || !client.player.isOnGround()
+                || client.player.isRiding() || client.player.getPitch(0.f) < 35.f)
+            return false;
+        // Only block items can be placed by reach around.
+        return client.player.getMainHandStack().getItem() instanceof BlockItem || client.player.getOffHandStack().getItem() instanceof BlockItem;
+    }
+
     /**
      * Returns the last reach around result.
      *
      * @return the last reach around result
      */
     public @Nullable BlockHitResult getLastReacharoundResult() {
+        this.evaluate();
         return this.lastReacharoundResult;
     }
 
@@ -64,6 +162,7 @@ public class MidnightReacharound {
      * @return {@code true} if the reach around is vertical
      */
     public boolean isLastReacharoundVertical() {
+        this.evaluate();
         return this.lastReacharoundVertical;
     }
 
@@ -97,9 +196,9 @@ public class MidnightReacharound {
         Vec3d rotationVec = client.player.getRotationVec(1.0F);
         float range = getPlayerRange(client);
         var rayVec = pos.add(rotationVec.x * range, rotationVec.y * range, rotationVec.z * range).add(0, 0.75, 0);
-        var result = client.world.raycast(new RaycastContext(pos, rayVec, RaycastContext.ShapeType.OUTLINE, RaycastContext.FluidHandling.NONE, client.player));
+        var result = this.raycastVertical(pos, rayVec);
 
-        if (result.getType() == HitResult.Type.BLOCK) {
+        if (result != null) {
             BlockPos blockPos = result.getBlockPos().down();
             BlockState state = client.world.getBlockState(blockPos);
 
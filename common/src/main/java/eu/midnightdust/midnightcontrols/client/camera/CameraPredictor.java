@@ -0,0 +1,97 @@
+package eu.midnightdust.midnightcontrols.client.camera;
+
+/**
+ * Extrapolates the stick look velocity between two stick samples.
+ * <p>
+ * The stick is sampled independently of the frame rate, so a frame is usually rendered some time after the last sample.
+ * The trend of the last few samples is used to predict the velocity at the exact frame render time.
+ * The prediction never goes further than the next sample would, and never reverses the direction of the last sample.
+ */
+public class CameraPredictor {
+    private static final int SAMPLES = 4;
+
+    private final long[] times = new long[SAMPLES];
+    private final double[] yaws = new double[SAMPLES];
+    private final double[] pitches = new double[SAMPLES];
+    private int head = -1;
+    private int count = 0;
+    private double yaw = 0.0;
+    private double pitch = 0.0;
+
+    /**
+     * Records a stick velocity sample.
+     *
+     * @param time the sample time, in nanoseconds
+     * @param yaw the yaw velocity
+     * @param pitch the pitch velocity
+     */
+    public void onSample(long time, double yaw, double pitch) {
+        this.head = (this.head + 1) % SAMPLES;
+        this.times[this.head] = time;
+        this.yaws[this.head] = yaw;
+        this.pitches[this.head] = pitch;
+        if (this.count < SAMPLES) ++this.count;
+    }
+
+    /**
+     * Extrapolates the velocity of the last samples to the specified frame time.
+     * The result can be read with {@link #getYaw()} and {@link #getPitch()}.
+     *
+     * @param time the frame render time, in nanoseconds
+     */
+    public void predict(long time) {
+        if (this.count == 0) {
+            this.yaw = this.pitch = 0.0;
+            return;
+        }
+        this.yaw = this.yaws[this.head];
+        this.pitch = this.pitches[this.head];
+        if (this.count < 2) return;
+
+        int oldest = (this.head - this.count + 1 + SAMPLES) % SAMPLES;
+        int previous = (this.head - 1 + SAMPLES) % SAMPLES;
+        long span = this.times[this.head] - this.times[oldest];
+        if (span <= 0) return;
+
+        // Never predict further than the next sample is expected to arrive.
+        long horizon = Math.min(time - this.times[this.head], span / (this.count - 1));
+        if (horizon <= 0) return;
+
+        this.yaw = extrapolate(this.yaws, oldest, previous, horizon, span);
+        this.pitch = extrapolate(this.pitches, oldest, previous, horizon, span);
+    }
+
+    /**
+     * Forgets every sample, for example when the camera stops being controlled by the stick.
+     */
+    public void reset() {
+        this.head = -1;
+        this.count = 0;
+        this.yaw = this.pitch = 0.0;
+    }
+
+    public double getYaw() {
+        return this.yaw;
+    }
+
+    public double getPitch() {
+        return this.pitch;
+    }
+
+    /**
+     * Extrapolates the trend of the samples, bounded by the last real step so the prediction stops as soon as the stick does.
+     */
+    private double extrapolate(double[] values, int oldest, int previous, long horizon, long span) {
+        double last = values[this.head];
+        double lastStep = last - values[previous];
+        double predicted = (last - values[oldest]) * horizon / span;
+        if (lastStep == 0.0 || Math.signum(predicted) != Math.signum(lastStep))
+            return last;
+        if (Math.abs(predicted) > Math.abs(lastStep))
+            predicted = lastStep;
+        // The stick cannot overshoot its rest position.
+        if (last != 0.0 && Math.signum(last + predicted) != Math.signum(last))
+            return 0.0;
+        return last + predicted;
+    }
+}
@@ -0,0 +1,144 @@
+package eu.midnightdust.midnightcontrols.client.camera;
+
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.util.math.Smoother;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Combines the camera rotation requested by every look source and applies it once per frame.
+ * <p>
+ * Sources emit timestamped samples, either as an angular velocity in degrees per second which is held until replaced,
+ * or as a rotation delta in degrees which is consumed by the next frame.
+ * Limits, sensitivity and smoothing are applied to the combined rotation, so mixed sources no longer fight each other.
+ */
+public class LookPipeline {
+    /**
+     * Degrees of rotation per unit of {@link net.minecraft.entity.Entity#changeLookDirection(double, double)}.
+     */
+    public static final double MOUSE_UNIT = 0.15;
+    private static final double SPYGLASS_SCALE = 0.125;
+    // Samples older than this are ignored, so a source that stops emitting can never keep rotating the camera.
+    private static final long STALE_TIME = 200_000_000L;
+    private static final long MAX_FRAME_TIME = 100_000_000L;
+
+    private final long[] velocityTimes = new long[Source.values().length];
+    private final double[] yawVelocities = new double[Source.values().length];
+    private final double[] pitchVelocities = new double[Source.values().length];
+    private final CameraPredictor stickPredictor = new CameraPredictor();
+    private final Smoother smoothYaw = new Smoother();
+    private final Smoother smoothPitch = new Smoother();
+    private long deltaTime = 0L;
+    private double yawDelta = 0.0;
+    private double pitchDelta = 0.0;
+    private long lastFrameTime = 0L;
+
+    /**
+     * Sets the angular velocity requested by a source.
+     *
+     * @param source the look source
+     * @param time the sample time, in nanoseconds
+     * @param yaw the yaw velocity, in degrees per second
+     * @param pitch the pitch velocity, in degrees per second
+     */
+    public synchronized void pushVelocity(@NotNull Source source, long time, double yaw, double pitch) {
+        this.velocityTimes[source.ordinal()] = time;
+        this.yawVelocities[source.ordinal()] = yaw;
+        this.pitchVelocities[source.ordinal()] = pitch;
+        if (source == Source.STICK)
+            this.stickPredictor.onSample(time, yaw, pitch);
+    }
+
+    /**
+     * Adds a rotation delta requested by a source, applied by the next frame.
+     *
+     * @param source the look source
+     * @param time the sample time, in nanoseconds
+     * @param yaw the yaw delta, in degrees
+     * @param pitch the pitch delta, in degrees
+     */
+    public synchronized void pushDelta(@NotNull Source source, long time, double yaw, double pitch) {
+        this.deltaTime = time;
+        this.yawDelta += yaw;
+        this.pitchDelta += pitch;
+    }
+
+    /**
+     * Applies the combined rotation of every source to the player.
+     *
+     * @param client the client instance
+     * @param player the player
+     * @param time the frame render time, in nanoseconds
+     */
+    public synchronized void apply(@NotNull MinecraftClient client, @NotNull ClientPlayerEntity player, long time) {
+        long frameTime = this.lastFrameTime == 0L ? 0L : Math.min(time - this.lastFrameTime, MAX_FRAME_TIME);
+        this.lastFrameTime = time;
+
+        double yaw = 0.0;
+        double pitch = 0.0;
+        if (time - this.deltaTime <= STALE_TIME) {
+            yaw = this.yawDelta;
+            pitch = this.pitchDelta;
+        }
+        this.yawDelta = this.pitchDelta = 0.0;
+
+        if (frameTime > 0L) {
+            double seconds = frameTime / 1_000_000_000.0;
+            for (var source : Source.values()) {
+                int i = source.ordinal();
+                if (time - this.velocityTimes[i] > STALE_TIME) continue;
+                if (source == Source.STICK && MidnightControlsConfig.cameraPrediction) {
+                    this.stickPredictor.predict(time);
+                    yaw += this.stickPredictor.getYaw() * seconds;
+                    pitch += this.stickPredictor.getPitch() * seconds;
+                } else {
+                    yaw += this.yawVelocities[i] * seconds;
+                    pitch += this.pitchVelocities[i] * seconds;
+                }
+            }
+        }
+
+        if (client.options.getPerspective().isFirstPerson() && player.isUsingSpyglass()) {
+            yaw *= SPYGLASS_SCALE;
+            pitch *= SPYGLASS_SCALE;
+        }
+
+        if (client.options.smoothCameraEnabled) {
+            double sensitivity = client.options.getMouseSensitivity().getValue() * 0.6 + 0.2;
+            double smoothing = sensitivity * sensitivity * sensitivity * 8.0 * frameTime / 1_000_000_000.0;
+            yaw = this.smoothYaw.smooth(yaw, smoothing);
+            pitch = this.smoothPitch.smooth(pitch, smoothing);
+        } else {
+            this.smoothYaw.clear();
+            this.smoothPitch.clear();
+        }
+
+        if (yaw != 0.0 || pitch != 0.0) {
+            // Also clamps the pitch and rotates the vehicle.
+            player.changeLookDirection(yaw / MOUSE_UNIT, pitch / MOUSE_UNIT);
+            client.getTutorialManager().onUpdateMouse(yaw / MOUSE_UNIT, pitch / MOUSE_UNIT);
+        }
+    }
+
+    /**
+     * Discards every sample, for example when a screen is opened.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < this.velocityTimes.length; i++) {
+            this.yawVelocities[i] = this.pitchVelocities[i] = 0.0;
+        }
+        this.stickPredictor.reset();
+        this.smoothYaw.clear();
+        this.smoothPitch.clear();
+        this.yawDelta = this.pitchDelta = 0.0;
+        this.lastFrameTime = 0L;
+    }
+
+    public enum Source {
+        STICK,
+        LOOK_KEYS,
+        TOUCH,
+        EYE_TRACKER
+    }
+}
@@ -1,6 +1,7 @@
 package eu.midnightdust.midnightcontrols.client.compat;
 
 import eu.midnightdust.midnightcontrols.client.controller.InputManager;
+import eu.midnightdust.midnightcontrols.client.ring.RingPage;
 import io.github.kosmx.emotes.arch.gui.EmoteMenuImpl;
 import io.github.kosmx.emotes.arch.gui.screen.ingame.FastChosseScreen;
 import net.minecraft.client.MinecraftClient;
@@ -16,17 +17,17 @@ public class EmotecraftCompat {
         return screen instanceof FastChosseScreen;
     }
 
+    public static boolean isEmotecraftScreen(Class<?> screenClass) {
+        return FastChosseScreen.class.isAssignableFrom(screenClass);
+    }
+
     public static void handleEmoteSelector(int index) {
         if (client.currentScreen instanceof FastChosseScreen) {
             int x = client.getWindow().getWidth() / 2;
             int y = client.getWindow().getHeight() / 2;
-            switch (index) {
-                case 0, 3, 5 -> x -= 200;
-                case 2, 4, 7 -> x += 200;
-            }
-            switch (index) {
-                case 0, 1, 2 -> y -= 200;
-                case 5, 6, 7 -> y += 200;
+            if (index >= 0) {
+                x += Math.round(RingPage.SELECTOR.getDirectionX(index) * 200);
+                y += Math.round(RingPage.SELECTOR.getDirectionY(index) * 200);
             }
             InputManager.queueMousePosition(x, y);
 
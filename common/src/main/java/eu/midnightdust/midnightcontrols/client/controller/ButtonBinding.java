@@ -13,10 +13,12 @@ import com.google.common.base.Predicates;
 import eu.midnightdust.midnightcontrols.client.enums.ButtonState;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.gui.RingScreen;
+import eu.midnightdust.midnightcontrols.client.util.TranslationCache;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.GameOptions;
 import net.minecraft.client.option.KeyBinding;
-import net.minecraft.client.resource.language.I18n;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
@@ -42,6 +44,7 @@ public class ButtonBinding {
     public static final ButtonCategory INVENTORY_CATEGORY;
     public static final ButtonCategory MULTIPLAYER_CATEGORY;
     public static final ButtonCategory MISC_CATEGORY;
+    private static final Int2ObjectMap<Text> BUTTON_NAMES = new Int2ObjectOpenHashMap<>();
 
     public static final ButtonBinding ATTACK = new Builder("attack").buttons(axisAsButton(GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER, true)).onlyInGame().register();
     public static final ButtonBinding BACK = new Builder("back").buttons(axisAsButton(GLFW_GAMEPAD_AXIS_LEFT_Y, false))
@@ -111,6 +114,7 @@ public class ButtonBinding {
     private int[] button;
     private final int[] defaultButton;
     private final String key;
+    private final String actionKey;
     private final Text text;
     private KeyBinding mcKeyBinding = null;
     protected Predicate<ButtonBinding> filter;
@@ -123,6 +127,7 @@ public class ButtonBinding {
     public ButtonBinding(String key, int[] defaultButton, List<PressAction> actions, Predicate<ButtonBinding> filter, boolean hasCooldown) {
         this.setButton(this.defaultButton = defaultButton);
         this.key = key;
+        this.actionKey = "midnightcontrols.action." + key;
         this.text = Text.translatable(this.key);
         this.filter = filter;
         this.actions.addAll(actions);
@@ -131,6 +136,7 @@ public class ButtonBinding {
     public ButtonBinding(String key, int[] defaultButton, List<PressAction> actions, Predicate<ButtonBinding> filter, boolean hasCooldown, int cooldownLength) {
         this.setButton(this.defaultButton = defaultButton);
         this.key = key;
+        this.actionKey = "midnightcontrols.action." + key;
         this.text = Text.translatable(this.key);
         this.filter = filter;
         this.actions.addAll(actions);
@@ -162,8 +168,10 @@ public class ButtonBinding {
     public void setButton(int[] button) {
         this.button = button;
 
-        if (InputManager.hasBinding(this))
+        if (InputManager.hasBinding(this)) {
             InputManager.sortBindings();
+            InputManager.invalidateUnboundBindings();
+        }
     }
     /**
      * Sets the button press state.
@@ -295,7 +303,7 @@ public class ButtonBinding {
      * @return the translation key
      */
     public @NotNull String getTranslationKey() {
-        return I18n.hasTranslation("midnightcontrols.action." + this.getName()) ? "midnightcontrols.action." + this.getName() : this.getName();
+        return TranslationCache.hasTranslation(this.actionKey) ? this.actionKey : this.key;
     }
 
     public @NotNull Text getText() {
@@ -377,6 +385,10 @@ public class ButtonBinding {
      * @return the localized name of the button
      */
     public static @NotNull Text getLocalizedButtonName(int button) {
+        return BUTTON_NAMES.computeIfAbsent(button, ButtonBinding::createLocalizedButtonName);
+    }
+
+    private static @NotNull Text createLocalizedButtonName(int button) {
         return switch (button % 500) {
             case -1 -> Text.translatable("key.keyboard.unknown");
             case GLFW_GAMEPAD_BUTTON_A -> Text.translatable("midnightcontrols.button.a");
@@ -0,0 +1,133 @@
+package eu.midnightdust.midnightcontrols.client.controller;
+
+import com.mojang.blaze3d.platform.GlDebugInfo;
+import eu.midnightdust.midnightcontrols.client.enums.ControllerType;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Detects the type of a controller from the vendor and product IDs of its GUID, else from its name.
+ * <p>
+ * The detected type is cached per GUID, and the type of the used controller is refreshed once per tick.
+ */
+public class ControllerTypeMatcher {
+    private static final int MICROSOFT = 0x045e;
+    private static final int SONY = 0x054c;
+    private static final int NINTENDO = 0x057e;
+    private static final int VALVE = 0x28de;
+    private static final int OUYA = 0x2836;
+    private static final int ANY_PRODUCT = -1;
+    // Matched in order, so specific products come before the rules covering a whole vendor.
+    private static final List<IdRule> ID_RULES = List.of(
+            new IdRule(MICROSOFT, 0x028e, ControllerType.XBOX_360),
+            new IdRule(MICROSOFT, 0x028f, ControllerType.XBOX_360),
+            new IdRule(MICROSOFT, 0x0291, ControllerType.XBOX_360),
+            new IdRule(MICROSOFT, 0x0719, ControllerType.XBOX_360),
+            new IdRule(MICROSOFT, ANY_PRODUCT, ControllerType.XBOX),
+            new IdRule(SONY, 0x0ce6, ControllerType.DUALSENSE),
+            new IdRule(SONY, 0x0df2, ControllerType.DUALSENSE),
+            new IdRule(SONY, ANY_PRODUCT, ControllerType.DUALSHOCK),
+            new IdRule(NINTENDO, ANY_PRODUCT, ControllerType.SWITCH),
+            new IdRule(VALVE, 0x1205, ControllerType.STEAM_DECK),
+            new IdRule(VALVE, 0x1102, ControllerType.STEAM_CONTROLLER),
+            new IdRule(VALVE, 0x1142, ControllerType.STEAM_CONTROLLER),
+            new IdRule(OUYA, ANY_PRODUCT, ControllerType.OUYA)
+    );
+    private static final List<NameRule> NAME_RULES = List.of(
+            new NameRule(ControllerType.XBOX_360, "xbox 360"),
+            new NameRule(ControllerType.XBOX, "xbox", "afterglow"),
+            new NameRule(ControllerType.STEAM_CONTROLLER, "steam"),
+            new NameRule(ControllerType.DUALSENSE, "dualsense", "ps5"),
+            new NameRule(ControllerType.DUALSHOCK, "dualshock", "ps4", "sony"),
+            new NameRule(ControllerType.SWITCH, "switch", "joy-con", "wii", "nintendo"),
+            new NameRule(ControllerType.OUYA, "ouya")
+    );
+    private static final Object2ObjectOpenHashMap<String, ControllerType> TYPES = new Object2ObjectOpenHashMap<>();
+    private static volatile ControllerType current = ControllerType.DEFAULT;
+
+    /**
+     * Gets the detected type of the used controller.
+     *
+     * @return the controller type
+     */
+    public static @NotNull ControllerType getCurrent() {
+        return current;
+    }
+
+    /**
+     * Refreshes the detected type of the used controller, called every tick.
+     *
+     * @param controller the used controller
+     */
+    public static void update(@NotNull Controller controller) {
+        current = match(controller);
+    }
+
+    /**
+     * Detects the type of the specified controller, cached per GUID.
+     *
+     * @param controller the controller
+     * @return the controller type
+     */
+    public static synchronized @NotNull ControllerType match(@NotNull Controller controller) {
+        String guid = controller.getGuid();
+        // Without a GUID the controller cannot be told apart from another one.
+        if (guid.isEmpty()) return match(guid, controller.getName());
+        var type = TYPES.get(guid);
+        if (type == null) {
+            type = match(guid, controller.getName());
+            TYPES.put(guid, type);
+        }
+        return type;
+    }
+
+    /**
+     * Detects the type of a controller.
+     *
+     * @param guid the GUID of the controller
+     * @param name the name of the controller
+     * @return the controller type
+     */
+    public static @NotNull ControllerType match(@NotNull String guid, @NotNull String name) {
+        // SDL GUIDs of USB and Bluetooth devices store the little-endian vendor and product IDs in their 3rd and 5th words.
+        if (guid.length() == 32 && guid.startsWith("0000", 12) && guid.startsWith("0000", 20)) {
+            int vendor = parseWord(guid, 8);
+            int product = parseWord(guid, 16);
+            for (var rule : ID_RULES) {
+                if (rule.vendor == vendor && (rule.product == ANY_PRODUCT || rule.product == product))
+                    return rule.type;
+            }
+        }
+
+        name = name.toLowerCase(Locale.ROOT);
+        for (var rule : NAME_RULES) {
+            for (var part : rule.parts) {
+                if (name.contains(part)) {
+                    if (rule.type == ControllerType.STEAM_CONTROLLER && GlDebugInfo.getCpuInfo().contains("AMD Custom APU"))
+                        return ControllerType.STEAM_DECK;
+                    return rule.type;
+                }
+            }
+        }
+        return ControllerType.DEFAULT;
+    }
+
+    private static int parseWord(String guid, int index) {
+        try {
+            int low = Integer.parseInt(guid, index, index + 2, 16);
+            int high = Integer.parseInt(guid, index + 2, index + 4, 16);
+            return high << 8 | low;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record IdRule(int vendor, int product, ControllerType type) {
+    }
+
+    private record NameRule(ControllerType type, String... parts) {
+    }
+}
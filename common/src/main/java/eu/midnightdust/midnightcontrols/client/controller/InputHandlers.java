@@ -9,17 +9,18 @@
 
 package eu.midnightdust.midnightcontrols.client.controller;
 
-import com.google.common.collect.Lists;
 import eu.midnightdust.midnightcontrols.client.enums.ButtonState;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.MidnightInput;
 import eu.midnightdust.midnightcontrols.client.compat.InventoryTabsCompat;
 import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
-import eu.midnightdust.midnightcontrols.client.gui.RingScreen;
 import eu.midnightdust.midnightcontrols.client.touch.gui.TouchscreenOverlay;
 import eu.midnightdust.midnightcontrols.client.mixin.*;
 import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
 import eu.midnightdust.midnightcontrols.client.util.InventoryUtil;
+import eu.midnightdust.midnightcontrols.client.util.ScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.ScreenContext;
+import eu.midnightdust.midnightcontrols.client.util.SlotGrid;
 import eu.midnightdust.midnightcontrols.client.util.ToggleSneakSprintUtil;
 import eu.midnightdust.midnightcontrols.client.util.platform.ItemGroupUtil;
 import net.minecraft.client.MinecraftClient;
@@ -27,7 +28,6 @@ import net.minecraft.client.gui.screen.TitleScreen;
 import net.minecraft.client.gui.screen.advancement.AdvancementsScreen;
 import net.minecraft.client.gui.screen.ingame.*;
 import net.minecraft.client.gui.screen.recipebook.RecipeBookWidget;
-import net.minecraft.client.gui.widget.TabNavigationWidget;
 import net.minecraft.client.util.ScreenshotRecorder;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
@@ -57,6 +57,7 @@ public class InputHandlers {
             if (action == ButtonState.RELEASE)
                 return false;
 
+            var context = ScreenContext.of(client.currentScreen);
             // When in-game
             if (client.currentScreen == null && client.player != null) {
                 if (!client.player.isSpectator()) {
@@ -75,10 +76,10 @@ public class InputHandlers {
                     }
                 }
                 return true;
-            } else if (client.currentScreen instanceof RingScreen) {
+            } else if (context.ring()) {
                 MidnightControlsClient.ring.cyclePage(next);
-            } else if (client.currentScreen instanceof CreativeInventoryScreenAccessor inventory) {
-                inventory.midnightcontrols$setSelectedTab(ItemGroupUtil.cycleTab(next, client));
+            } else if (context.creative()) {
+                ((CreativeInventoryScreenAccessor) client.currentScreen).midnightcontrols$setSelectedTab(ItemGroupUtil.cycleTab(next, client));
                 return true;
             } else if (client.currentScreen instanceof RecipeBookScreen<?> recipeBookScreen) {
                 RecipeBookWidget<?> recipeBook = ((RecipeBookScreenAccessor) recipeBookScreen).getRecipeBook();
@@ -100,35 +101,23 @@ public class InputHandlers {
                 recipeBookScreen.refreshRecipeBook();
                 return true;
             } else if (client.currentScreen instanceof AdvancementsScreenAccessor screen) {
-                var tabs = screen.getTabs().values().stream().distinct().toList();
                 var tab = screen.getSelectedTab();
                 if (tab == null)
                     return false;
-                for (int i = 0; i < tabs.size(); i++) {
-                    if (tabs.get(i).equals(tab)) {
-                        int nextTab = i + (next ? 1 : -1);
-                        if (nextTab < 0)
-                            nextTab = tabs.size() - 1;
-                        else if (nextTab >= tabs.size())
-                            nextTab = 0;
-                        screen.getAdvancementManager().selectTab(tabs.get(nextTab).getRoot().getAdvancementEntry(), true);
-                        break;
-                    }
-                }
+                var nextTab = ((ScreenAccessor) screen).midnightcontrols$getScreenActions().getAdjacentAdvancementTab(screen, tab, next);
+                if (nextTab != null)
+                    screen.getAdvancementManager().selectTab(nextTab.getRoot().getAdvancementEntry(), true);
                 return true;
-            } else if (client.currentScreen != null && client.currentScreen.children().stream().anyMatch(e -> e instanceof TabNavigationWidget)) {
-                return Lists.newCopyOnWriteArrayList(client.currentScreen.children()).stream().anyMatch(e -> {
-                    if (e instanceof TabNavigationWidget tabs) {
-                        TabNavigationWidgetAccessor accessor = (TabNavigationWidgetAccessor) tabs;
-                        int tabIndex = accessor.getTabs().indexOf(accessor.getTabManager().getCurrentTab());
-                        if (next ? tabIndex+1 < accessor.getTabs().size() : tabIndex > 0) {
-                            if (next) tabs.selectTab(tabIndex + 1, true);
-                            else tabs.selectTab(tabIndex - 1, true);
-                            return true;
-                        }
-                    }
-                    return false;
-                });
+            } else if (client.currentScreen != null && ((ScreenAccessor) client.currentScreen).midnightcontrols$getScreenActions().getTabNavigation() != null) {
+                var tabs = ((ScreenAccessor) client.currentScreen).midnightcontrols$getScreenActions().getTabNavigation();
+                TabNavigationWidgetAccessor accessor = (TabNavigationWidgetAccessor) tabs;
+                int tabIndex = accessor.getTabs().indexOf(accessor.getTabManager().getCurrentTab());
+                if (next ? tabIndex+1 < accessor.getTabs().size() : tabIndex > 0) {
+                    if (next) tabs.selectTab(tabIndex + 1, true);
+                    else tabs.selectTab(tabIndex - 1, true);
+                    return true;
+                }
+                return false;
             } else return MidnightControlsCompat.handleTabs(client.currentScreen, next);
 
             return false;
@@ -139,8 +128,11 @@ public class InputHandlers {
         return (client, button, value, action) -> {
             if (action == ButtonState.RELEASE)
                 return false;
-            if (client.currentScreen instanceof CreativeInventoryScreen creativeScreen) {
-                return ItemGroupUtil.cyclePage(next, creativeScreen);
+            if (ScreenContext.of(client.currentScreen).creative()) {
+                var page = ((ScreenAccessor) client.currentScreen).midnightcontrols$getScreenActions().getPage(next);
+                if (page == null) return false;
+                page.onPress();
+                return true;
             }
 
 
@@ -160,7 +152,9 @@ public class InputHandlers {
     }
     public static PressAction handleActions() {
         return (client, button, value, action) -> {
-            if (!(client.currentScreen instanceof HandledScreen<?> screen)) return false;
+            var context = ScreenContext.of(client.currentScreen);
+            if (!context.handled()) return false;
+            var screen = (HandledScreen<?>) client.currentScreen;
             if (client.interactionManager == null || client.player == null)
                 return false;
 
@@ -187,7 +181,7 @@ public class InputHandlers {
             MidnightControlsClient.input.inventoryInteractionCooldown = 5;
             switch (button.getName()) {
                 case "take_all" -> {
-                    if (screen instanceof CreativeInventoryScreen) {
+                    if (context.creative()) {
                         if (slot != null && (((CreativeInventoryScreenAccessor) accessor).midnightcontrols$isCreativeInventorySlot(slot) || MidnightControlsCompat.streamCompatHandlers().anyMatch(handler -> handler.isCreativeSlot(screen, slot))))
                             actionType = SlotActionType.CLONE;
                     }
@@ -210,9 +204,10 @@ public class InputHandlers {
     public static boolean handlePauseGame(@NotNull MinecraftClient client, @NotNull ButtonBinding binding, float value, @NotNull ButtonState action) {
         if (action == ButtonState.PRESS) {
             // If in game, then pause the game.
-            if (client.currentScreen == null || client.currentScreen instanceof RingScreen)
+            var context = ScreenContext.of(client.currentScreen);
+            if (client.currentScreen == null || context.ring())
                 client.openGameMenu(false);
-            else if (client.currentScreen instanceof HandledScreen && client.player != null) // If the current screen is a container then close it.
+            else if (context.handled() && client.player != null) // If the current screen is a container then close it.
                 client.player.closeHandledScreen();
             else // Else just close the current screen.
                 client.currentScreen.close();
@@ -242,10 +237,17 @@ public class InputHandlers {
         return ToggleSneakSprintUtil.toggleSprint(button);
     }
 
+    /**
+     * Moves the cursor to the neighbour of the hovered slot.
+     *
+     * @param direction the direction, 0 for up, 1 for down, 2 for right, 3 for left, or {@link SlotGrid#NEXT_SECTION}
+     * @return the press action
+     */
     public static PressAction handleInventorySlotPad(int direction) {
         return (client, binding, value, action) -> {
-            if (!(client.currentScreen instanceof HandledScreen<?> inventory && action != ButtonState.RELEASE))
+            if (!ScreenContext.of(client.currentScreen).handled() || action == ButtonState.RELEASE)
                 return false;
+            var inventory = (HandledScreen<?>) client.currentScreen;
 
             var accessor = (HandledScreenAccessor) inventory;
 
@@ -280,7 +282,7 @@ public class InputHandlers {
      * @return true if the client is in game, else false
      */
     public static boolean inGame(@NotNull ButtonBinding binding) {
-        return (client.currentScreen == null && MidnightControlsClient.input.screenCloseCooldown <= 0) || client.currentScreen instanceof TouchscreenOverlay || client.currentScreen instanceof RingScreen;
+        return (client.currentScreen == null && MidnightControlsClient.input.screenCloseCooldown <= 0) || client.currentScreen instanceof TouchscreenOverlay || ScreenContext.of(client.currentScreen).ring();
     }
 
     /**
@@ -302,7 +304,7 @@ public class InputHandlers {
      * @return true if the client is in an inventory, else false
      */
     public static boolean inInventory(@NotNull ButtonBinding binding) {
-        return client.currentScreen instanceof HandledScreen;
+        return ScreenContext.of(client.currentScreen).handled();
     }
 
     /**
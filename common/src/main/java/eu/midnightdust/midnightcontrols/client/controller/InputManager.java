@@ -12,18 +12,16 @@ package eu.midnightdust.midnightcontrols.client.controller;
 import eu.midnightdust.midnightcontrols.ControlsMode;
 import eu.midnightdust.midnightcontrols.client.enums.ButtonState;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
-import eu.midnightdust.midnightcontrols.client.mixin.MouseAccessor;
+import eu.midnightdust.midnightcontrols.client.mouse.VirtualCursor;
+import eu.midnightdust.midnightcontrols.client.util.TranslationCache;
 import it.unimi.dsi.fastutil.ints.*;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
-import net.minecraft.client.resource.language.I18n;
 import net.minecraft.client.util.InputUtil;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.math.MathHelper;
 import org.aperlambda.lambdacommon.utils.function.PairPredicate;
 import org.jetbrains.annotations.NotNull;
-import org.lwjgl.glfw.GLFW;
 
 import java.util.*;
 import java.util.function.Consumer;
@@ -45,10 +43,7 @@ public class InputManager {
     private static final List<ButtonCategory> CATEGORIES = new ArrayList<>();
     public static final Int2ObjectMap<ButtonState> STATES = new Int2ObjectOpenHashMap<>();
     public static final Int2FloatMap BUTTON_VALUES = new Int2FloatOpenHashMap();
-    public int prevTargetMouseX = 0;
-    public int prevTargetMouseY = 0;
-    public int targetMouseX = 0;
-    public int targetMouseY = 0;
+    public final VirtualCursor cursor = new VirtualCursor();
 
     protected InputManager() {
     }
@@ -58,14 +53,6 @@ public class InputManager {
             if (MidnightControlsConfig.getController().isConnected() && MidnightControlsConfig.getController().isGamepad())
                  MidnightControlsConfig.controlsMode = ControlsMode.CONTROLLER;
             else MidnightControlsConfig.controlsMode = ControlsMode.DEFAULT;
-        if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER) {
-            this.controllerTick();
-        }
-    }
-
-    public void controllerTick() {
-        this.prevTargetMouseX = this.targetMouseX;
-        this.prevTargetMouseY = this.targetMouseY;
     }
 
     /**
@@ -75,13 +62,7 @@ public class InputManager {
      */
     public void updateMousePosition(@NotNull MinecraftClient client) {
         Objects.requireNonNull(client, "Client instance cannot be null.");
-        if (this.prevTargetMouseX != this.targetMouseX || this.prevTargetMouseY != this.targetMouseY) {
-            double mouseX = this.prevTargetMouseX + (this.targetMouseX - this.prevTargetMouseX) * client.getRenderTickCounter().getTickDelta(true) + 0.5;
-            double mouseY = this.prevTargetMouseY + (this.targetMouseY - this.prevTargetMouseY) * client.getRenderTickCounter().getTickDelta(true) + 0.5;
-            if (!MidnightControlsConfig.virtualMouse)
-                GLFW.glfwSetCursorPos(client.getWindow().getHandle(), mouseX, mouseY);
-            ((MouseAccessor) client.mouse).midnightcontrols$onCursorPos(client.getWindow().getHandle(), mouseX, mouseY);
-        }
+        this.cursor.update(client, System.nanoTime());
     }
 
     /**
@@ -91,15 +72,11 @@ public class InputManager {
      * @param windowHeight the window height
      */
     public void resetMousePosition(int windowWidth, int windowHeight) {
-        this.targetMouseX = this.prevTargetMouseX = (int) (windowWidth / 2.F);
-        this.targetMouseY = this.prevTargetMouseY = (int) (windowHeight / 2.F);
+        this.cursor.reset(windowWidth / 2.0, windowHeight / 2.0);
     }
 
     public void resetMouseTarget(@NotNull MinecraftClient client) {
-        double mouseX = client.mouse.getX();
-        double mouseY = client.mouse.getY();
-        this.prevTargetMouseX = this.targetMouseX = (int) mouseX;
-        this.prevTargetMouseY = this.targetMouseY = (int) mouseY;
+        this.cursor.reset(client.mouse.getX(), client.mouse.getY());
     }
 
     /**
@@ -145,16 +122,38 @@ public class InputManager {
             });
         return tempBinding;
     }
+    // The unbound bindings are kept sorted until a binding changes, the ignored keys change or the language changes.
     private static List<ButtonBinding> unboundBindings;
+    private static List<String> unboundIgnoredKeys;
+    private static String unboundLanguage;
+
+    /**
+     * Gets the unbound bindings sorted by translated name, the same list instance is returned until it changes.
+     *
+     * @return the unbound bindings
+     */
     public static List<ButtonBinding> getUnboundBindings() {
-        unboundBindings = new ArrayList<>();
+        String language = client.getLanguageManager() == null ? "" : client.getLanguageManager().getLanguage();
+        if (unboundBindings != null && Objects.equals(unboundLanguage, language) && MidnightControlsConfig.ignoredUnboundKeys.equals(unboundIgnoredKeys))
+            return unboundBindings;
+        var bindings = new ArrayList<ButtonBinding>();
         BINDINGS.forEach(binding -> {
-            if (binding.isNotBound() && !MidnightControlsConfig.ignoredUnboundKeys.contains(binding.getTranslationKey())) unboundBindings.add(binding);
+            if (binding.isNotBound() && !MidnightControlsConfig.ignoredUnboundKeys.contains(binding.getTranslationKey())) bindings.add(binding);
         });
-        unboundBindings.sort(Comparator.comparing(s -> I18n.translate(s.getTranslationKey())));
+        bindings.sort(Comparator.comparing(s -> TranslationCache.translate(s.getTranslationKey())));
+        unboundBindings = Collections.unmodifiableList(bindings);
+        unboundIgnoredKeys = List.copyOf(MidnightControlsConfig.ignoredUnboundKeys);
+        unboundLanguage = language;
         return unboundBindings;
     }
 
+    /**
+     * Drops the sorted unbound bindings, called when a binding is registered or its buttons change.
+     */
+    public static void invalidateUnboundBindings() {
+        unboundBindings = null;
+    }
+
     /**
      * Registers a button binding.
      *
@@ -165,6 +164,7 @@ public class InputManager {
         if (hasBinding(binding))
             throw new IllegalStateException("Cannot register twice a button binding in the registry.");
         BINDINGS.add(binding);
+        invalidateUnboundBindings();
         return binding;
     }
 
@@ -378,12 +378,11 @@ public class InputManager {
     }
 
     public static void queueMousePosition(double x, double y) {
-        INPUT_MANAGER.targetMouseX = (int) MathHelper.clamp(x, 0, MinecraftClient.getInstance().getWindow().getWidth());
-        INPUT_MANAGER.targetMouseY = (int) MathHelper.clamp(y, 0, MinecraftClient.getInstance().getWindow().getHeight());
+        INPUT_MANAGER.cursor.moveTo(x, y);
     }
 
     public static void queueMoveMousePosition(double x, double y) {
-        queueMousePosition(INPUT_MANAGER.targetMouseX + x, INPUT_MANAGER.targetMouseY + y);
+        INPUT_MANAGER.cursor.moveBy(x, y);
     }
 
     public static @NotNull Stream<ButtonBinding> streamBindings() {
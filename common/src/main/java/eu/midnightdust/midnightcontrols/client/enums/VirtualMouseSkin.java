@@ -10,11 +10,14 @@
 package eu.midnightdust.midnightcontrols.client.enums;
 
 import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.Optional;
 
+import static eu.midnightdust.midnightcontrols.MidnightControls.id;
+
 /**
  * Represents the virtual mouse skins.
  *
@@ -22,17 +25,25 @@ import java.util.Optional;
  * @since 1.2.0
  */
 public enum VirtualMouseSkin {
-    DEFAULT_LIGHT("default_light"),
-    DEFAULT_DARK("default_dark"),
-    SECOND_LIGHT("second_light"),
-    SECOND_DARK("second_dark");
+    DEFAULT_LIGHT("default_light", "cursor/light/default", false),
+    DEFAULT_DARK("default_dark", "cursor/dark/default", true),
+    SECOND_LIGHT("second_light", "cursor/light/secondary", false),
+    SECOND_DARK("second_dark", "cursor/dark/secondary", true);
 
     private final String name;
     private final Text text;
+    private final String spritePath;
+    private final Identifier cursorSprite;
+    private final Identifier slotCursorSprite;
+    private final Identifier pointerSprite;
 
-    VirtualMouseSkin(String name) {
+    VirtualMouseSkin(String name, String spritePath, boolean dark) {
         this.name = name;
         this.text = Text.translatable(this.getTranslationKey());
+        this.spritePath = spritePath;
+        this.cursorSprite = id(spritePath);
+        this.slotCursorSprite = id(spritePath + "_slot");
+        this.pointerSprite = id(dark ? "cursor/dark/mouse_pointer" : "cursor/light/mouse_pointer");
     }
 
     /**
@@ -80,11 +91,25 @@ public enum VirtualMouseSkin {
         return Arrays.stream(values()).filter(mode -> mode.getName().equalsIgnoreCase(id)).findFirst();
     }
     public String getSpritePath() {
-        return switch (this) {
-            case DEFAULT_LIGHT -> "cursor/light/default";
-            case DEFAULT_DARK -> "cursor/dark/default";
-            case SECOND_LIGHT -> "cursor/light/secondary";
-            case SECOND_DARK -> "cursor/dark/secondary";
-        };
+        return this.spritePath;
+    }
+
+    /**
+     * Gets the identifier of the cursor sprite of this skin.
+     *
+     * @param slot true to get the sprite shown when hovering a slot, else false
+     * @return the sprite identifier
+     */
+    public @NotNull Identifier getCursorSprite(boolean slot) {
+        return slot ? this.slotCursorSprite : this.cursorSprite;
+    }
+
+    /**
+     * Gets the identifier of the pointer sprite drawn over the real cursor on Wayland.
+     *
+     * @return the sprite identifier
+     */
+    public @NotNull Identifier getPointerSprite() {
+        return this.pointerSprite;
     }
 }
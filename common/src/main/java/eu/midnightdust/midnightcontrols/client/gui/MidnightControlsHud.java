@@ -16,12 +16,11 @@ import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.util.TranslationCache;
 import net.minecraft.client.render.RenderTickCounter;
 import org.thinkingstudio.obsidianui.hud.Hud;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
-import net.minecraft.client.resource.language.I18n;
-import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Identifier;
@@ -30,6 +29,10 @@ import net.minecraft.util.hit.HitResult;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static eu.midnightdust.midnightcontrols.MidnightControls.id;
 
 /**
@@ -54,8 +57,18 @@ public class MidnightControlsHud extends Hud {
     private int useButtonWidth = 0;
     private String attackAction = "";
     private String placeAction = "";
+    private String lastAttackAction = "";
     private int ticksDisplayedCrosshair = 0;
     private static boolean isCrammed = false;
+    // The layout only changes with the displayed actions, the bindings and the window, so it is rebuilt only when one of them changes.
+    private final List<LayoutElement> layout = new ArrayList<>();
+    private boolean dirty = true;
+    private int layoutWidth = -1;
+    private int layoutHeight = -1;
+    private HudSide layoutSide = null;
+    private boolean layoutSubtitles = false;
+    private boolean dropItemShown = false;
+    private int bindingsHash = 0;
 
     public MidnightControlsHud() {
         super(id("hud/button_indicator"));
@@ -72,6 +85,7 @@ public class MidnightControlsHud extends Hud {
         this.dropItemButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.DROP_ITEM);
         this.attackButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.ATTACK);
         this.useButtonWidth = MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.USE);
+        this.dirty = true;
     }
 
 
@@ -82,15 +96,25 @@ public class MidnightControlsHud extends Hud {
     public void render(DrawContext context, RenderTickCounter tickCounter) {
         if (this.client == null) return;
         if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER && this.client.currentScreen == null) {
-            isCrammed = client.getWindow().getScaledWidth() < 520;
-            int y = bottom(2);
-            MatrixStack matrices = context.getMatrices();
-            matrices.push();
-            this.renderFirstIcons(context, MidnightControlsConfig.hudSide == HudSide.LEFT ? 2 : client.getWindow().getScaledWidth() - 2, y);
-            this.renderSecondIcons(context, MidnightControlsConfig.hudSide == HudSide.RIGHT ? 2 : client.getWindow().getScaledWidth() - 2, y);
-            this.renderFirstSection(context, MidnightControlsConfig.hudSide == HudSide.LEFT ? 2 : client.getWindow().getScaledWidth() - 2, y);
-            this.renderSecondSection(context, MidnightControlsConfig.hudSide == HudSide.RIGHT ? 2 : client.getWindow().getScaledWidth() - 2, y);
-            matrices.pop();
+            var window = this.client.getWindow();
+            boolean showSubtitles = this.client.options.getShowSubtitles().getValue();
+            if (window.getScaledWidth() != this.layoutWidth || window.getScaledHeight() != this.layoutHeight
+                    || MidnightControlsConfig.hudSide != this.layoutSide || showSubtitles != this.layoutSubtitles)
+                this.dirty = true;
+            if (this.dirty) {
+                this.layoutWidth = window.getScaledWidth();
+                this.layoutHeight = window.getScaledHeight();
+                this.layoutSide = MidnightControlsConfig.hudSide;
+                this.layoutSubtitles = showSubtitles;
+                this.buildLayout();
+                this.dirty = false;
+            }
+            for (var element : this.layout) {
+                if (element.buttons != null)
+                    MidnightControlsRenderer.drawButton(context, element.x, element.y, element.buttons, this.client);
+                else
+                    context.drawText(this.client.textRenderer, element.text, element.x, element.y, 14737632, false);
+            }
         }
 
         if (MidnightControlsClient.reacharound.isLastReacharoundVertical()) {
@@ -107,11 +131,21 @@ public class MidnightControlsHud extends Hud {
         }
     }
 
-    public void renderFirstIcons(DrawContext context, int x, int y) {
+    private void buildLayout() {
+        this.layout.clear();
+        isCrammed = this.layoutWidth < 520;
+        int y = bottom(2);
+        this.layoutFirstIcons(MidnightControlsConfig.hudSide == HudSide.LEFT ? 2 : this.layoutWidth - 2, y);
+        this.layoutSecondIcons(MidnightControlsConfig.hudSide == HudSide.RIGHT ? 2 : this.layoutWidth - 2, y);
+        this.layoutFirstSection(MidnightControlsConfig.hudSide == HudSide.LEFT ? 2 : this.layoutWidth - 2, y);
+        this.layoutSecondSection(MidnightControlsConfig.hudSide == HudSide.RIGHT ? 2 : this.layoutWidth - 2, y);
+    }
+
+    private void layoutFirstIcons(int x, int y) {
         int offset = 2 + this.inventoryWidth + this.inventoryButtonWidth + 4;
         int currentX = MidnightControlsConfig.hudSide == HudSide.LEFT ? x : x - this.inventoryButtonWidth;
-        if (!ButtonBinding.INVENTORY.isNotBound()) this.drawButton(context, currentX, y, ButtonBinding.INVENTORY, true);
-        if (!ButtonBinding.SWAP_HANDS.isNotBound() && !isCrammed && showSwapHandsAction) this.drawButton(context, currentX += (MidnightControlsConfig.hudSide == HudSide.LEFT ? offset : -offset), y, ButtonBinding.SWAP_HANDS, true);
+        if (!ButtonBinding.INVENTORY.isNotBound()) this.drawButton(currentX, y, ButtonBinding.INVENTORY, true);
+        if (!ButtonBinding.SWAP_HANDS.isNotBound() && !isCrammed && showSwapHandsAction) this.drawButton(currentX += (MidnightControlsConfig.hudSide == HudSide.LEFT ? offset : -offset), y, ButtonBinding.SWAP_HANDS, true);
         offset = 2 + this.swapHandsWidth + this.dropItemButtonWidth + 4;
         if (this.client.options.getShowSubtitles().getValue() && MidnightControlsConfig.hudSide == HudSide.RIGHT) {
             currentX += -offset;
@@ -120,23 +154,23 @@ public class MidnightControlsHud extends Hud {
             y -= 20;
         }
         if (!ButtonBinding.DROP_ITEM.isNotBound() && client.player != null)
-            this.drawButton(context, currentX, y, ButtonBinding.DROP_ITEM, !this.client.player.getMainHandStack().isEmpty());
+            this.drawButton(currentX, y, ButtonBinding.DROP_ITEM, !this.client.player.getMainHandStack().isEmpty());
     }
 
-    public void renderSecondIcons(DrawContext context, int x, int y) {
+    private void layoutSecondIcons(int x, int y) {
         int offset;
         int currentX = x;
         if (isCrammed && showSwapHandsAction && !this.client.options.getShowSubtitles().getValue() && !ButtonBinding.SWAP_HANDS.isNotBound()) {
             if (MidnightControlsConfig.hudSide == HudSide.LEFT)
                 currentX -= this.useButtonWidth;
-            this.drawButton(context, currentX, y, ButtonBinding.SWAP_HANDS, true);
+            this.drawButton(currentX, y, ButtonBinding.SWAP_HANDS, true);
             currentX = x;
             y -= 20;
         }
         if (!this.placeAction.isEmpty() && (!ButtonBinding.USE.isNotBound()) ) {
             if (MidnightControlsConfig.hudSide == HudSide.LEFT)
                 currentX -= this.useButtonWidth;
-            this.drawButton(context, currentX, y, ButtonBinding.USE, true);
+            this.drawButton(currentX, y, ButtonBinding.USE, true);
             offset = 2 + this.useWidth + 4;
             if (this.client.options.getShowSubtitles().getValue() && MidnightControlsConfig.hudSide == HudSide.LEFT) {
                 currentX -= offset;
@@ -149,31 +183,31 @@ public class MidnightControlsHud extends Hud {
         if (MidnightControlsConfig.hudSide == HudSide.LEFT)
             currentX -= this.attackButtonWidth;
 
-        if (!ButtonBinding.ATTACK.isNotBound()) this.drawButton(context, currentX, y, ButtonBinding.ATTACK, this.attackWidth != 0);
+        if (!ButtonBinding.ATTACK.isNotBound()) this.drawButton(currentX, y, ButtonBinding.ATTACK, this.attackWidth != 0);
     }
 
-    public void renderFirstSection(DrawContext context, int x, int y) {
+    private void layoutFirstSection(int x, int y) {
         int currentX = MidnightControlsConfig.hudSide == HudSide.LEFT ? x + this.inventoryButtonWidth + 2 : x - this.inventoryButtonWidth - 2 - this.inventoryWidth;
-        if (!ButtonBinding.INVENTORY.isNotBound()) this.drawTip(context, currentX, y, ButtonBinding.INVENTORY, true);
+        if (!ButtonBinding.INVENTORY.isNotBound()) this.drawTip(currentX, y, ButtonBinding.INVENTORY, true);
         currentX += MidnightControlsConfig.hudSide == HudSide.LEFT ? this.inventoryWidth + 4 + this.swapHandsButtonWidth + 2
                 : -this.swapHandsWidth - 2 - this.swapHandsButtonWidth - 4;
-        if (!ButtonBinding.SWAP_HANDS.isNotBound() && !isCrammed && showSwapHandsAction) this.drawTip(context, currentX, y, ButtonBinding.SWAP_HANDS, true);
+        if (!ButtonBinding.SWAP_HANDS.isNotBound() && !isCrammed && showSwapHandsAction) this.drawTip(currentX, y, ButtonBinding.SWAP_HANDS, true);
         if (this.client.options.getShowSubtitles().getValue() && MidnightControlsConfig.hudSide == HudSide.RIGHT) {
             currentX += -this.dropItemWidth - 2 - this.dropItemButtonWidth - 4;
         } else {
             y -= 20;
             currentX = MidnightControlsConfig.hudSide == HudSide.LEFT ? x + this.dropItemButtonWidth + 2 : x - this.dropItemButtonWidth - 2 - this.dropItemWidth;
         }
-        if (!ButtonBinding.DROP_ITEM.isNotBound() && client.player != null) this.drawTip(context, currentX, y, ButtonBinding.DROP_ITEM, !this.client.player.getMainHandStack().isEmpty());
+        if (!ButtonBinding.DROP_ITEM.isNotBound() && client.player != null) this.drawTip(currentX, y, ButtonBinding.DROP_ITEM, !this.client.player.getMainHandStack().isEmpty());
     }
 
-    public void renderSecondSection(DrawContext context, int x, int y) {
+    private void layoutSecondSection(int x, int y) {
         int currentX = x;
 
         if (isCrammed && showSwapHandsAction && !this.client.options.getShowSubtitles().getValue() && !ButtonBinding.SWAP_HANDS.isNotBound()) {
             currentX += MidnightControlsConfig.hudSide == HudSide.RIGHT ? this.swapHandsButtonWidth + 2 : -this.swapHandsButtonWidth - 2 - this.swapHandsWidth;
 
-            this.drawTip(context, currentX, y, ButtonBinding.SWAP_HANDS, true);
+            this.drawTip(currentX, y, ButtonBinding.SWAP_HANDS, true);
 
             currentX = x;
             y -= 20;
@@ -181,7 +215,7 @@ public class MidnightControlsHud extends Hud {
         if (!this.placeAction.isEmpty()) {
             currentX += MidnightControlsConfig.hudSide == HudSide.RIGHT ? this.useButtonWidth + 2 : -this.useButtonWidth - 2 - this.useWidth;
 
-            this.drawTip(context, currentX, y, this.placeAction, true);
+            this.drawTip(currentX, y, this.placeAction, true);
 
             if (this.client.options.getShowSubtitles().getValue() && MidnightControlsConfig.hudSide == HudSide.LEFT) {
                 currentX -= 4;
@@ -193,7 +227,7 @@ public class MidnightControlsHud extends Hud {
 
         currentX += MidnightControlsConfig.hudSide == HudSide.RIGHT ? this.attackButtonWidth + 2 : -this.attackButtonWidth - 2 - this.attackWidth;
 
-        if (!ButtonBinding.ATTACK.isNotBound()) this.drawTip(context, currentX, y, this.attackAction, this.attackWidth != 0);
+        if (!ButtonBinding.ATTACK.isNotBound()) this.drawTip(currentX, y, this.attackAction, this.attackWidth != 0);
     }
 
     @Override
@@ -255,8 +289,20 @@ public class MidnightControlsHud extends Hud {
             if (customUseAction != null)
                 placeAction = customUseAction;
 
+            boolean showSwapHandsAction = !this.client.player.getMainHandStack().isEmpty() || !this.client.player.getOffHandStack().isEmpty();
+            boolean dropItemShown = !this.client.player.getMainHandStack().isEmpty();
+            int bindingsHash = this.hashBindings();
+            if (!placeAction.equals(this.placeAction) || !this.attackAction.equals(this.lastAttackAction)
+                    || showSwapHandsAction != this.showSwapHandsAction || dropItemShown != this.dropItemShown || bindingsHash != this.bindingsHash) {
+                if (bindingsHash != this.bindingsHash)
+                    this.init(this.client, this.client.getWindow().getScaledWidth(), this.client.getWindow().getScaledHeight());
+                this.lastAttackAction = this.attackAction;
+                this.showSwapHandsAction = showSwapHandsAction;
+                this.dropItemShown = dropItemShown;
+                this.bindingsHash = bindingsHash;
+                this.dirty = true;
+            }
             this.placeAction = placeAction;
-            this.showSwapHandsAction = !this.client.player.getMainHandStack().isEmpty() || !this.client.player.getOffHandStack().isEmpty();
 
             // Cache the "Use" tip width.
             if (this.placeAction.isEmpty())
@@ -266,6 +312,14 @@ public class MidnightControlsHud extends Hud {
         }
     }
 
+    private int hashBindings() {
+        int hash = Arrays.hashCode(ButtonBinding.ATTACK.getButton());
+        hash = 31 * hash + Arrays.hashCode(ButtonBinding.USE.getButton());
+        hash = 31 * hash + Arrays.hashCode(ButtonBinding.INVENTORY.getButton());
+        hash = 31 * hash + Arrays.hashCode(ButtonBinding.SWAP_HANDS.getButton());
+        return 31 * hash + Arrays.hashCode(ButtonBinding.DROP_ITEM.getButton());
+    }
+
     @Override
     public boolean hasTicks() {
         return true;
@@ -282,23 +336,29 @@ public class MidnightControlsHud extends Hud {
     private int width(@Nullable String text) {
         if (text == null || text.isEmpty())
             return 0;
-        return this.client.textRenderer.getWidth(I18n.translate(text));
+        return TranslationCache.getWidth(this.client.textRenderer, text);
     }
 
-    private void drawButton(DrawContext context, int x, int y, @NotNull ButtonBinding button, boolean display) {
+    private void drawButton(int x, int y, @NotNull ButtonBinding button, boolean display) {
         if (display)
-            MidnightControlsRenderer.drawButton(context, x, y, button, this.client);
+            this.layout.add(new LayoutElement(x, y, button.getButton().clone(), null));
     }
 
-    private void drawTip(DrawContext context, int x, int y, @NotNull ButtonBinding button, boolean display) {
-        this.drawTip(context, x, y, button.getTranslationKey(), display);
+    private void drawTip(int x, int y, @NotNull ButtonBinding button, boolean display) {
+        this.drawTip(x, y, button.getTranslationKey(), display);
     }
 
-    private void drawTip(DrawContext context, int x, int y, @NotNull String action, boolean display) {
+    private void drawTip(int x, int y, @NotNull String action, boolean display) {
         if (!display)
             return;
-        var translatedAction = I18n.translate(action);
+        var translatedAction = TranslationCache.translate(action);
         int textY = (MidnightControlsRenderer.ICON_SIZE / 2 - this.client.textRenderer.fontHeight / 2) + 1;
-        context.drawText(this.client.textRenderer, translatedAction, x, (y + textY), 14737632, false);
+        this.layout.add(new LayoutElement(x, (y + textY), null, translatedAction));
+    }
+
+    /**
+     * Represents a button or a tip of the cached HUD layout.
+     */
+    private record LayoutElement(int x, int y, int @Nullable [] buttons, @Nullable String text) {
     }
 }
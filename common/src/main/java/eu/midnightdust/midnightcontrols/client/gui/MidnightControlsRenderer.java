@@ -9,10 +9,9 @@
 
 package eu.midnightdust.midnightcontrols.client.gui;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import eu.midnightdust.midnightcontrols.ControlsMode;
-import eu.midnightdust.midnightcontrols.client.enums.ControllerType;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
+import eu.midnightdust.midnightcontrols.client.enums.ControllerType;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.MidnightInput;
 import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
@@ -20,22 +19,23 @@ import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.enums.VirtualMouseSkin;
 import eu.midnightdust.midnightcontrols.client.mixin.DrawContextAccessor;
 import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.TranslationCache;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.render.*;
-import net.minecraft.client.resource.language.I18n;
 import net.minecraft.client.texture.Sprite;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.ColorHelper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.lwjgl.glfw.GLFW;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
-import static eu.midnightdust.midnightcontrols.MidnightControls.id;
 
 /**
  * Represents the midnightcontrols renderer.
@@ -48,6 +48,18 @@ public class MidnightControlsRenderer {
     public static final int ICON_SIZE = 20;
     private static final int BUTTON_SIZE = 15;
     private static final int AXIS_SIZE = 18;
+    private static final int SECOND_CONTROLLER_COLOR = 0xFFFF00FF;
+    private static final int CONTROLLER_TYPES = ControllerType.values().length;
+    // The glyph table covers the buttons, then the positive axes, then the negative axes.
+    private static final int GLYPH_BUTTONS_END = 19;
+    private static final int GLYPH_BUTTONS = GLYPH_BUTTONS_END + 2 * (GLFW.GLFW_GAMEPAD_AXIS_LAST + 1);
+    private static final Glyph[] GLYPHS = createGlyphs();
+    private static final int CURSOR_SPRITE = 0;
+    private static final int SLOT_CURSOR_SPRITE = 1;
+    private static final int POINTER_SPRITE = 2;
+    private static final int CURSOR_SPRITE_KINDS = 3;
+    // The cursor sprites of every skin, resolved once after each resource reload.
+    private static final Sprite[] CURSOR_SPRITES = new Sprite[VirtualMouseSkin.values().length * CURSOR_SPRITE_KINDS];
 
     public static int getButtonSize(int button) {
         return switch (button) {
@@ -118,7 +130,52 @@ public class MidnightControlsRenderer {
             second = true;
         }
 
-        int controllerType = MidnightControlsConfig.controllerType == ControllerType.DEFAULT ? MidnightControlsConfig.matchControllerToType().getId() : MidnightControlsConfig.controllerType.getId();
+        var glyph = getGlyph(MidnightControlsConfig.getControllerType(), button);
+        // The buttons of the second controller are tinted through the vertex colour, so the glyphs stay in one batch.
+        context.drawTexture(RenderLayer::getGuiTextured, glyph.texture(),
+                x + (ICON_SIZE / 2 - glyph.size() / 2), y + (ICON_SIZE / 2 - glyph.size() / 2),
+                (float) glyph.u(), (float) glyph.v(),
+                glyph.size(), glyph.size(),
+                256, 256, second ? SECOND_CONTROLLER_COLOR : 0xFFFFFFFF);
+
+        return ICON_SIZE;
+    }
+
+    /**
+     * Gets the glyph of a button for the specified controller type.
+     *
+     * @param type the controller type
+     * @param button the button
+     * @return the glyph of the button
+     */
+    public static @NotNull Glyph getGlyph(@NotNull ControllerType type, int button) {
+        int index = glyphIndex(button);
+        if (index == -1 || type.getId() < 0 || type.getId() >= CONTROLLER_TYPES)
+            return createGlyph(type.getId(), button);
+        return GLYPHS[type.getId() * GLYPH_BUTTONS + index];
+    }
+
+    private static int glyphIndex(int button) {
+        if (button >= 0 && button < GLYPH_BUTTONS_END) return button;
+        else if (button >= 100 && button <= GLFW.GLFW_GAMEPAD_AXIS_LAST + 100) return GLYPH_BUTTONS_END + button - 100;
+        else if (button >= 200 && button <= GLFW.GLFW_GAMEPAD_AXIS_LAST + 200) return GLYPH_BUTTONS_END + GLFW.GLFW_GAMEPAD_AXIS_LAST + 1 + button - 200;
+        return -1;
+    }
+
+    private static Glyph[] createGlyphs() {
+        var glyphs = new Glyph[CONTROLLER_TYPES * GLYPH_BUTTONS];
+        for (int type = 0; type < CONTROLLER_TYPES; type++) {
+            for (int button = 0; button < GLYPH_BUTTONS_END; button++)
+                glyphs[type * GLYPH_BUTTONS + glyphIndex(button)] = createGlyph(type, button);
+            for (int axis = 0; axis <= GLFW.GLFW_GAMEPAD_AXIS_LAST; axis++) {
+                glyphs[type * GLYPH_BUTTONS + glyphIndex(axis + 100)] = createGlyph(type, axis + 100);
+                glyphs[type * GLYPH_BUTTONS + glyphIndex(axis + 200)] = createGlyph(type, axis + 200);
+            }
+        }
+        return glyphs;
+    }
+
+    private static Glyph createGlyph(int controllerType, int button) {
         boolean axis = false;
         int buttonOffset = button * 15;
         switch (button) {
@@ -169,19 +226,9 @@ public class MidnightControlsRenderer {
             case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER + 100, GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER + 200 -> buttonOffset = 10 * 15;
         }
 
-        RenderSystem.disableDepthTest();
-
         int assetSize = axis || (button >= 15 && button <= 18) ? AXIS_SIZE : BUTTON_SIZE;
-
-        RenderSystem.setShaderColor(1.f, second ? 0.f : 1.f, 1.f, 1.f);
-        context.drawTexture(RenderLayer::getGuiTextured, axis ? MidnightControlsClient.CONTROLLER_AXIS : button >= 15 && button <= 19 ? MidnightControlsClient.CONTROLLER_EXPANDED :MidnightControlsClient.CONTROLLER_BUTTONS
-                , x + (ICON_SIZE / 2 - assetSize / 2), y + (ICON_SIZE / 2 - assetSize / 2),
-                (float) buttonOffset, (float) (controllerType * assetSize),
-                assetSize, assetSize,
-                256, 256);
-        RenderSystem.enableDepthTest();
-
-        return ICON_SIZE;
+        var texture = axis ? MidnightControlsClient.CONTROLLER_AXIS : button >= 15 && button <= 19 ? MidnightControlsClient.CONTROLLER_EXPANDED : MidnightControlsClient.CONTROLLER_BUTTONS;
+        return new Glyph(texture, buttonOffset, controllerType * assetSize, assetSize);
     }
 
     public static int drawButtonTip(DrawContext context, int x, int y, @NotNull ButtonBinding button, boolean display, @NotNull MinecraftClient client) {
@@ -192,7 +239,7 @@ public class MidnightControlsRenderer {
         if (display) {
             int buttonWidth = drawButton(context, x, y, button, client).length();
 
-            var translatedAction = I18n.translate(action);
+            var translatedAction = TranslationCache.translate(action);
             int textY = (MidnightControlsRenderer.ICON_SIZE / 2 - client.textRenderer.fontHeight / 2) + 1;
 
             return context.drawTextWithShadow(client.textRenderer, translatedAction, (x + buttonWidth + 2), (y + textY), 14737632);
@@ -210,13 +257,9 @@ public class MidnightControlsRenderer {
         float mouseX = (float) client.mouse.getX() * client.getWindow().getScaledWidth() / client.getWindow().getWidth();
         float mouseY = (float) client.mouse.getY() * client.getWindow().getScaledHeight() / client.getWindow().getHeight();
 
-        try {
-            Identifier spritePath = MidnightControlsClient.WAYLAND_CURSOR_TEXTURE_LIGHT;
-            if (MidnightControlsConfig.virtualMouseSkin == VirtualMouseSkin.DEFAULT_DARK || MidnightControlsConfig.virtualMouseSkin == VirtualMouseSkin.SECOND_DARK)
-                spritePath = MidnightControlsClient.WAYLAND_CURSOR_TEXTURE_DARK;
-            Sprite sprite = client.getGuiAtlasManager().getSprite(spritePath);
+        Sprite sprite = getCursorSprite(client, MidnightControlsConfig.virtualMouseSkin, POINTER_SPRITE);
+        if (sprite != null)
             drawUnalignedTexturedQuad(RenderLayer::getGuiTextured, sprite.getAtlasId(), context, mouseX, mouseX + 8, mouseY, mouseY + 8, 999, sprite.getMinU(), sprite.getMaxU(), sprite.getMinV(), sprite.getMaxV());
-        } catch (IllegalStateException ignored) {}
     }
 
     public static void renderVirtualCursor(@NotNull DrawContext context, @NotNull MinecraftClient client) {
@@ -257,24 +300,60 @@ public class MidnightControlsRenderer {
             mouseY -= 8;
         }
 
-        try {
-            Sprite sprite = client.getGuiAtlasManager().getSprite(id(MidnightControlsConfig.virtualMouseSkin.getSpritePath() + (hoverSlot ? "_slot" : "")));
+        Sprite sprite = getCursorSprite(client, MidnightControlsConfig.virtualMouseSkin, hoverSlot ? SLOT_CURSOR_SPRITE : CURSOR_SPRITE);
+        if (sprite != null)
             drawUnalignedTexturedQuad(RenderLayer::getGuiTextured, sprite.getAtlasId(), context, mouseX, mouseX + 16, mouseY, mouseY + 16, 999, sprite.getMinU(), sprite.getMaxU(), sprite.getMinV(), sprite.getMaxV());
-        } catch (IllegalStateException ignored) {}
     }
+
+    /**
+     * Drops the cached cursor sprites, called when the resources are reloaded.
+     */
+    public static void clearSpriteCache() {
+        Arrays.fill(CURSOR_SPRITES, null);
+    }
+
+    private static @Nullable Sprite getCursorSprite(@NotNull MinecraftClient client, @NotNull VirtualMouseSkin skin, int kind) {
+        int index = skin.ordinal() * CURSOR_SPRITE_KINDS + kind;
+        var sprite = CURSOR_SPRITES[index];
+        if (sprite == null) {
+            var id = switch (kind) {
+                case CURSOR_SPRITE -> skin.getCursorSprite(false);
+                case SLOT_CURSOR_SPRITE -> skin.getCursorSprite(true);
+                default -> skin.getPointerSprite();
+            };
+            try {
+                CURSOR_SPRITES[index] = sprite = client.getGuiAtlasManager().getSprite(id);
+            } catch (IllegalStateException ignored) {}
+        }
+        return sprite;
+    }
+
+    /**
+     * Adds a textured quad to the vertex buffer of its render layer.
+     * The buffers are flushed once with the rest of the frame's GUI, so the quads drawn in a frame are batched together.
+     */
     private static void drawUnalignedTexturedQuad(Function<Identifier, RenderLayer> renderLayers, Identifier texture, DrawContext context, float x1, float x2, float y1, float y2, float z, float u1, float u2, float v1, float v2) {
         RenderLayer renderLayer = renderLayers.apply(texture);
-        //RenderSystem.setShaderTexture(0, texture);
         Matrix4f matrix4f = context.getMatrices().peek().getPositionMatrix();
-        //BufferBuilder bufferBuilder = Tessellator.getInstance().begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE);
         VertexConsumer vertexConsumer = ((DrawContextAccessor)context).getVertexConsumers().getBuffer(renderLayer);
-        vertexConsumer.vertex(matrix4f, x1, y1, z).texture(u1, v1).color(ColorHelper.getWhite(1.0f));
-        vertexConsumer.vertex(matrix4f, x1, y2, z).texture(u1, v2).color(ColorHelper.getWhite(1.0f));
-        vertexConsumer.vertex(matrix4f, x2, y2, z).texture(u2, v2).color(ColorHelper.getWhite(1.0f));
-        vertexConsumer.vertex(matrix4f, x2, y1, z).texture(u2, v1).color(ColorHelper.getWhite(1.0f));
-        context.draw();
+        int color = ColorHelper.getWhite(1.0f);
+        vertexConsumer.vertex(matrix4f, x1, y1, z).texture(u1, v1).color(color);
+        vertexConsumer.vertex(matrix4f, x1, y2, z).texture(u1, v2).color(color);
+        vertexConsumer.vertex(matrix4f, x2, y2, z).texture(u2, v2).color(color);
+        vertexConsumer.vertex(matrix4f, x2, y1, z).texture(u2, v1).color(color);
     }
 
     public record ButtonSize(int length, int height) {
     }
+
+    /**
+     * Represents the location of a button glyph in the controller textures.
+     *
+     * @param texture the texture containing the glyph
+     * @param u the X position of the glyph in the texture
+     * @param v the Y position of the glyph in the texture
+     * @param size the size of the glyph
+     */
+    public record Glyph(Identifier texture, int u, int v, int size) {
+    }
 }
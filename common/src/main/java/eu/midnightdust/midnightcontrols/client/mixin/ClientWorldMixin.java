@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of midnightcontrols.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package eu.midnightdust.midnightcontrols.client.mixin;
+
+import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Notifies the reach-around of the block changes of the client world.
+ */
+@Mixin(ClientWorld.class)
+public abstract class ClientWorldMixin {
+    @Inject(method = "updateListeners", at = @At("HEAD"))
+    private void midnightcontrols$onBlockUpdate(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
+        MidnightControlsClient.reacharound.onBlockUpdate(pos);
+    }
+}
@@ -15,6 +15,7 @@ import eu.midnightdust.midnightcontrols.ControlsMode;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsRenderer;
+import eu.midnightdust.midnightcontrols.client.touch.TouchInput;
 import eu.midnightdust.midnightcontrols.client.touch.TouchUtils;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
@@ -32,6 +33,11 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 public abstract class GameRendererMixin {
     @Shadow @Final MinecraftClient client;
 
+    @Inject(method = "render", at = @At("HEAD"))
+    private void midnightcontrols$updateCamera(RenderTickCounter tickCounter, boolean tick, CallbackInfo ci) {
+        MidnightControlsClient.input.updateCamera();
+        TouchInput.gestures.update(System.nanoTime());
+    }
     @Inject(method = "render", at = @At(value = "INVOKE", target = "Lnet/minecraft/client/Mouse;getX()D", shift = At.Shift.BEFORE))
     private void midnightcontrols$onRender(RenderTickCounter tickCounter, boolean tick, CallbackInfo ci) {
         if (this.client.currentScreen != null && MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER)
@@ -41,12 +47,12 @@ public abstract class GameRendererMixin {
     private void midnightcontrols$renderVirtualCursor(RenderTickCounter tickCounter, boolean tick, CallbackInfo ci, @Local DrawContext drawContext) {
         MidnightControlsRenderer.renderVirtualCursor(drawContext,  client);
         if (MidnightControlsClient.isWayland) MidnightControlsRenderer.renderWaylandCursor(drawContext, client);
-        drawContext.draw();
     }
     @Inject(at = @At(value = "FIELD", target = "Lnet/minecraft/client/render/GameRenderer;renderHand:Z"), method = "renderWorld")
     private void midnigtcontrols$captureMatrices(RenderTickCounter tickCounter, CallbackInfo ci, @Local(ordinal = 1) Matrix4f matrices) {
         TouchUtils.lastProjMat.set(RenderSystem.getProjectionMatrix());
         TouchUtils.lastModMat.set(RenderSystem.getModelViewMatrix());
         TouchUtils.lastWorldSpaceMatrix.set(matrices);
+        TouchUtils.captureFrame(this.client.getWindow().getFramebufferWidth(), this.client.getWindow().getFramebufferHeight());
     }
 }
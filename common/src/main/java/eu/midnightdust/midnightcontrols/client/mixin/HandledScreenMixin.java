@@ -16,15 +16,21 @@ import eu.midnightdust.midnightcontrols.client.compat.EMICompat;
 import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsRenderer;
+import eu.midnightdust.midnightcontrols.client.util.ButtonTipLayout;
 import eu.midnightdust.midnightcontrols.client.util.HandledScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.SlotGrid;
+import eu.midnightdust.midnightcontrols.client.util.TranslationCache;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
+import net.minecraft.screen.ScreenHandler;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
-import net.minecraft.text.Text;
 import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 import org.spongepowered.asm.mixin.injection.At;
@@ -36,6 +42,10 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
  */
 @Mixin(HandledScreen.class)
 public abstract class HandledScreenMixin implements HandledScreenAccessor {
+    @Shadow @Final protected ScreenHandler handler;
+    @Unique private SlotGrid midnightcontrols$slotGrid;
+    @Unique private ButtonTipLayout midnightcontrols$tipLayout;
+
     @Accessor("x")
     public abstract int getX();
 
@@ -52,28 +62,51 @@ public abstract class HandledScreenMixin implements HandledScreenAccessor {
     @Invoker("onMouseClick")
     public abstract void midnightcontrols$onMouseClick(@Nullable Slot slot, int slotId, int clickData, SlotActionType actionType);
 
+    @Override
+    public SlotGrid midnightcontrols$getSlotGrid() {
+        if (this.midnightcontrols$slotGrid == null || !this.midnightcontrols$slotGrid.isValid(this.handler.slots))
+            this.midnightcontrols$slotGrid = new SlotGrid(this.handler.slots);
+        return this.midnightcontrols$slotGrid;
+    }
+
+    @Inject(method = "init", at = @At("TAIL"))
+    private void midnightcontrols$onInit(CallbackInfo ci) {
+        this.midnightcontrols$slotGrid = null;
+        this.midnightcontrols$tipLayout = null;
+    }
+
     @Inject(method = "render", at = @At("RETURN"))
     public void onRender(DrawContext context, int mouseX, int mouseY, float delta, CallbackInfo ci) {
         if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER && MidnightControlsConfig.hudEnable) {
             var client = MinecraftClient.getInstance();
-            int x = 2, y = client.getWindow().getScaledHeight() - 2 - MidnightControlsRenderer.ICON_SIZE;
-            if (PlatformFunctions.isModLoaded("emi") && EMICompat.isEMIEnabled()) {
-                x += 42;
-            }
-            if (!ButtonBinding.TAKE_ALL.isNotBound()) x = MidnightControlsRenderer.drawButtonTip(context, x, y, ButtonBinding.TAKE_ALL,true, client) + 2;
-            if (!ButtonBinding.EXIT.isNotBound()) x = MidnightControlsRenderer.drawButtonTip(context, x, y, ButtonBinding.EXIT, true, client) + 2;
-            if (PlatformFunctions.isModLoaded("roughlyenoughitems")) {
-                x = 2;
-                y -= 24;
-            }
-            if (PlatformFunctions.isModLoaded("emi") && EMICompat.isEMIEnabled() && EMICompat.isSearchBarCentered()) {
-                x = client.getWindow().getScaledWidth() - 4 - client.textRenderer.getWidth(Text.translatable("midnightcontrols.action.pickup"))
-                        - client.textRenderer.getWidth(Text.translatable("midnightcontrols.action.quick_move"))
-                        - 2 * MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.TAKE) - MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.QUICK_MOVE);
-                y += 2;
-            }
-            if (!ButtonBinding.TAKE.isNotBound()) x = MidnightControlsRenderer.drawButtonTip(context, x, y, ButtonBinding.TAKE, true, client);
-            if (!ButtonBinding.QUICK_MOVE.isNotBound()) MidnightControlsRenderer.drawButtonTip(context, x, y, ButtonBinding.QUICK_MOVE, true, client);
+            if (this.midnightcontrols$tipLayout == null || !this.midnightcontrols$tipLayout.isValid(client))
+                this.midnightcontrols$tipLayout = this.midnightcontrols$layoutTips(client);
+            this.midnightcontrols$tipLayout.draw(context, client);
+        }
+    }
+
+    @Unique
+    private ButtonTipLayout midnightcontrols$layoutTips(MinecraftClient client) {
+        var layout = new ButtonTipLayout(client, ButtonBinding.TAKE_ALL, ButtonBinding.EXIT, ButtonBinding.TAKE, ButtonBinding.QUICK_MOVE);
+        boolean emi = PlatformFunctions.isModLoaded("emi") && EMICompat.isEMIEnabled();
+        int x = 2, y = client.getWindow().getScaledHeight() - 2 - MidnightControlsRenderer.ICON_SIZE;
+        if (emi) {
+            x += 42;
+        }
+        if (!ButtonBinding.TAKE_ALL.isNotBound()) x = layout.add(client, x, y, ButtonBinding.TAKE_ALL) + 2;
+        if (!ButtonBinding.EXIT.isNotBound()) x = layout.add(client, x, y, ButtonBinding.EXIT) + 2;
+        if (PlatformFunctions.isModLoaded("roughlyenoughitems")) {
+            x = 2;
+            y -= 24;
+        }
+        if (emi && EMICompat.isSearchBarCentered()) {
+            x = client.getWindow().getScaledWidth() - 4 - TranslationCache.getWidth(client.textRenderer, "midnightcontrols.action.pickup")
+                    - TranslationCache.getWidth(client.textRenderer, "midnightcontrols.action.quick_move")
+                    - 2 * MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.TAKE) - MidnightControlsRenderer.getBindingIconWidth(ButtonBinding.QUICK_MOVE);
+            y += 2;
         }
+        if (!ButtonBinding.TAKE.isNotBound()) x = layout.add(client, x, y, ButtonBinding.TAKE);
+        if (!ButtonBinding.QUICK_MOVE.isNotBound()) layout.add(client, x, y, ButtonBinding.QUICK_MOVE);
+        return layout;
     }
 }
@@ -14,7 +14,6 @@ import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.touch.gui.TouchscreenOverlay;
 import eu.midnightdust.midnightcontrols.client.touch.TouchInput;
-import eu.midnightdust.midnightcontrols.client.touch.TouchUtils;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.Mouse;
 import net.minecraft.client.util.GlfwUtil;
@@ -84,16 +83,21 @@ public abstract class MouseMixin implements MouseAccessor {
                 }
             }
             if (action == 1) {
-                TouchInput.clickStartTime = System.currentTimeMillis();
                 boolean bl = false;
                 if (client.currentScreen instanceof TouchscreenOverlay overlay) bl = overlay.mouseClicked(mouseX, mouseY, button);
-                if (!bl) TouchInput.firstHitResult = TouchUtils.getTargetedObject(mouseX, mouseY);
+                if (!bl) TouchInput.mousePressed(mouseX, mouseY);
                 if (client.currentScreen == null) ci.cancel();
             }
             else if (TouchInput.mouseReleased(mouseX, mouseY, button)) ci.cancel();
         }
     }
 
+    @Inject(method = "onCursorPos", at = @At("HEAD"))
+    private void midnightcontrols$onCursorPos(long window, double x, double y, CallbackInfo ci) {
+        if (window != this.client.getWindow().getHandle()) return;
+        TouchInput.gestures.move(x / client.getWindow().getScaleFactor(), y / client.getWindow().getScaleFactor(), System.nanoTime());
+    }
+
     @Inject(method = "isCursorLocked", at = @At("HEAD"), cancellable = true)
     private void midnightcontrols$isCursorLocked(CallbackInfoReturnable<Boolean> ci) {
         if (this.client.currentScreen == null) {
@@ -120,7 +124,7 @@ public abstract class MouseMixin implements MouseAccessor {
                 cursorYSmoother.clear();
             }
             EyeTrackerHandler.updateMouseWithEyeTracking(x + cursorDeltaX, y + cursorDeltaY, client,
-                    glfwTime, leftButtonClicked, midnightcontrols$isUsingLongRangedTool(), cursorXSmoother, cursorYSmoother);
+                    leftButtonClicked, midnightcontrols$isUsingLongRangedTool());
             glfwTime = GlfwUtil.getTime();
             cursorDeltaX = 0.0;
             cursorDeltaY = 0.0;
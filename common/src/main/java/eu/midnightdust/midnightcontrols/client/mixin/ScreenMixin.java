@@ -7,26 +7,63 @@ import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
 import eu.midnightdust.midnightcontrols.client.controller.InputHandlers;
 import eu.midnightdust.midnightcontrols.client.touch.gui.SilentTexturedButtonWidget;
+import eu.midnightdust.midnightcontrols.client.util.FocusGraph;
+import eu.midnightdust.midnightcontrols.client.util.ScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.util.ScreenActions;
+import eu.midnightdust.midnightcontrols.client.util.ScrollTargets;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.Drawable;
 import net.minecraft.client.gui.Element;
 import net.minecraft.client.gui.Selectable;
+import net.minecraft.client.gui.navigation.GuiNavigationPath;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.gen.Invoker;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.thinkingstudio.obsidianui.screen.SpruceScreen;
 
 import static eu.midnightdust.midnightcontrols.client.touch.gui.TouchscreenOverlay.WIDGETS_LOCATION;
 
 @Mixin(Screen.class)
-public abstract class ScreenMixin {
+public abstract class ScreenMixin implements ScreenAccessor {
     @Shadow protected abstract <T extends Element & Drawable & Selectable> T addDrawableChild(T drawableElement);
 
     @Shadow public int width;
+    @Unique private FocusGraph midnightcontrols$focusGraph;
+    @Unique private ScreenActions midnightcontrols$screenActions;
+    @Unique private ScrollTargets midnightcontrols$scrollTargets;
+
+    @Invoker("switchFocus")
+    public abstract void midnightcontrols$switchFocus(GuiNavigationPath path);
+
+    @Override
+    public @Nullable FocusGraph midnightcontrols$getFocusGraph() {
+        if (((Object) this) instanceof SpruceScreen) return null;
+        if (this.midnightcontrols$focusGraph == null || !this.midnightcontrols$focusGraph.isValid((Screen) (Object) this))
+            this.midnightcontrols$focusGraph = new FocusGraph((Screen) (Object) this);
+        return this.midnightcontrols$focusGraph;
+    }
+
+    @Override
+    public ScreenActions midnightcontrols$getScreenActions() {
+        if (this.midnightcontrols$screenActions == null)
+            this.midnightcontrols$screenActions = new ScreenActions((Screen) (Object) this);
+        return this.midnightcontrols$screenActions;
+    }
+
+    @Override
+    public ScrollTargets midnightcontrols$getScrollTargets() {
+        if (this.midnightcontrols$scrollTargets == null)
+            this.midnightcontrols$scrollTargets = new ScrollTargets((Screen) (Object) this);
+        return this.midnightcontrols$scrollTargets;
+    }
 
     @Inject(method = "init(Lnet/minecraft/client/MinecraftClient;II)V", at = @At("TAIL"))
     public void midnightcontrols$addCloseButton(MinecraftClient client, int width, int height, CallbackInfo ci) {
@@ -35,4 +72,20 @@ public abstract class ScreenMixin {
                     InputHandlers.handleExit().press(client, ButtonBinding.BACK, 0f, ButtonState.PRESS), 20, 160, 20, WIDGETS_LOCATION));
         }
     }
+
+    @Inject(method = "init(Lnet/minecraft/client/MinecraftClient;II)V", at = @At("TAIL"))
+    public void midnightcontrols$indexScreen(MinecraftClient client, int width, int height, CallbackInfo ci) {
+        this.midnightcontrols$focusGraph = null;
+        this.midnightcontrols$screenActions = null;
+        this.midnightcontrols$scrollTargets = null;
+        if (MidnightControlsConfig.controlsMode == ControlsMode.CONTROLLER)
+            this.midnightcontrols$getFocusGraph();
+    }
+
+    @Inject(method = "clearAndInit", at = @At("TAIL"))
+    public void midnightcontrols$reindexScreen(CallbackInfo ci) {
+        this.midnightcontrols$focusGraph = null;
+        this.midnightcontrols$screenActions = null;
+        this.midnightcontrols$scrollTargets = null;
+    }
 }
@@ -9,24 +9,15 @@
 
 package eu.midnightdust.midnightcontrols.client.mixin;
 
-import eu.midnightdust.lib.util.MidnightColorUtil;
 import eu.midnightdust.midnightcontrols.ControlsMode;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
-import eu.midnightdust.midnightcontrols.client.touch.TouchInput;
 import eu.midnightdust.midnightcontrols.client.enums.TouchMode;
-import eu.midnightdust.midnightcontrols.client.util.RainbowColor;
-import net.minecraft.block.ShapeContext;
+import eu.midnightdust.midnightcontrols.client.util.BlockOutlines;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.*;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.client.world.ClientWorld;
-import net.minecraft.item.BlockItem;
-import net.minecraft.item.ItemPlacementContext;
-import net.minecraft.item.ItemUsageContext;
-import net.minecraft.util.Hand;
 import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.hit.HitResult;
-import net.minecraft.util.math.ColorHelper;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -36,10 +27,6 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.awt.*;
-
-import static eu.midnightdust.midnightcontrols.client.MidnightControlsClient.reacharound;
-
 /**
  * Represents a mixin to WorldRenderer.
  * <p>
@@ -51,9 +38,6 @@ public abstract class WorldRendererMixin {
     @Final
     private MinecraftClient client;
 
-    @Shadow
-    private ClientWorld world;
-
     @Shadow
     @Final
     private BufferBuilderStorage bufferBuilders;
@@ -79,52 +63,27 @@ public abstract class WorldRendererMixin {
     }
     @Unique
     private void midnightcontrols$renderFingerOutline(MatrixStack matrices, Camera camera) {
-        if (TouchInput.firstHitResult == null || TouchInput.firstHitResult.getType() != HitResult.Type.BLOCK)
+        var outline = BlockOutlines.getTouchOutline(this.client);
+        if (outline == null || !outline.isVisible())
             return;
-        BlockHitResult result = (BlockHitResult) TouchInput.firstHitResult;
-        var blockPos = result.getBlockPos();
-        if (this.world.getWorldBorder().contains(blockPos) && this.client.player != null) {
-            var outlineShape = this.world.getBlockState(blockPos).getOutlineShape(this.client.world, blockPos, ShapeContext.of(camera.getFocusedEntity()));
-            Color rgb = MidnightColorUtil.hex2Rgb(MidnightControlsConfig.touchOutlineColorHex);
-            if (MidnightControlsConfig.touchOutlineColorHex.isEmpty()) rgb = RainbowColor.radialRainbow(1,1);
-            var pos = camera.getPos();
-            matrices.push();
-            var vertexConsumer = this.bufferBuilders.getEntityVertexConsumers().getBuffer(RenderLayer.getLines());
-            VertexRendering.drawOutline(matrices, vertexConsumer, outlineShape, blockPos.getX() - pos.getX(), blockPos.getY() - pos.getY(), blockPos.getZ() - pos.getZ(),
-                    ColorHelper.withAlpha(MidnightControlsConfig.touchOutlineColorAlpha, rgb.getRGB()));
-            matrices.pop();
-        }
+        this.midnightcontrols$drawOutline(matrices, camera, outline, BlockOutlines.getTouchColor());
     }
     @Unique
     private void midnightcontrols$renderReacharoundOutline(MatrixStack matrices, Camera camera) {
         if (this.client.crosshairTarget == null || this.client.crosshairTarget.getType() != HitResult.Type.MISS || !MidnightControlsConfig.shouldRenderReacharoundOutline)
             return;
-        var result = reacharound.getLastReacharoundResult();
-        if (result == null)
+        var outline = BlockOutlines.getReacharoundOutline();
+        if (outline == null || !outline.isVisible())
             return;
-        var blockPos = result.getBlockPos();
-        if (this.world.getWorldBorder().contains(blockPos) && this.client.player != null) {
-            var stack = this.client.player.getStackInHand(Hand.MAIN_HAND);
-            if (stack == null || !(stack.getItem() instanceof BlockItem))
-                return;
-
-            var block = ((BlockItem) stack.getItem()).getBlock();
-            result = reacharound.withSideForReacharound(result, block);
-            var context = new ItemPlacementContext(new ItemUsageContext(this.client.player, Hand.MAIN_HAND, result));
-
-            var placementState = block.getPlacementState(context);
-            if (placementState == null)
-                return;
-            var pos = camera.getPos();
-
-            var outlineShape = placementState.getOutlineShape(this.client.world, blockPos, ShapeContext.of(camera.getFocusedEntity()));
-            Color rgb = MidnightColorUtil.hex2Rgb(MidnightControlsConfig.reacharoundOutlineColorHex);
-            if (MidnightControlsConfig.reacharoundOutlineColorHex.isEmpty()) rgb = RainbowColor.radialRainbow(1,1);
-            matrices.push();
-            var vertexConsumer = this.bufferBuilders.getEntityVertexConsumers().getBuffer(RenderLayer.getLines());
-            VertexRendering.drawOutline(matrices, vertexConsumer, outlineShape, blockPos.getX() - pos.getX(), blockPos.getY() - pos.getY(), blockPos.getZ() - pos.getZ(),
-                    ColorHelper.withAlpha(MidnightControlsConfig.touchOutlineColorAlpha, rgb.getRGB()));
-            matrices.pop();
-        }
+        this.midnightcontrols$drawOutline(matrices, camera, outline, BlockOutlines.getReacharoundColor());
+    }
+    @Unique
+    private void midnightcontrols$drawOutline(MatrixStack matrices, Camera camera, BlockOutlines.Outline outline, int color) {
+        var blockPos = outline.pos();
+        var pos = camera.getPos();
+        matrices.push();
+        var vertexConsumer = this.bufferBuilders.getEntityVertexConsumers().getBuffer(RenderLayer.getLines());
+        VertexRendering.drawOutline(matrices, vertexConsumer, outline.shape(), blockPos.getX() - pos.getX(), blockPos.getY() - pos.getY(), blockPos.getZ() - pos.getZ(), color);
+        matrices.pop();
     }
 }
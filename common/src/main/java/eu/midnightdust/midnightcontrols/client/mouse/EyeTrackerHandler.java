@@ -1,17 +1,18 @@
 package eu.midnightdust.midnightcontrols.client.mouse;
 
+import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
+import eu.midnightdust.midnightcontrols.client.camera.LookPipeline;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.util.GlfwUtil;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
-import net.minecraft.util.math.Smoother;
 
 public class EyeTrackerHandler {
 
     /**
      * Based on the updateMouse method in the Mouse.class, this changes the mouse algorithm to suit eye tracking.
      * This requires the cursor to not be locked, and the raw input setting to be turned off.
+     * The resulting rotation is handed to the look pipeline, which applies the spyglass slowdown and smoothing.
      */
-    public static void updateMouseWithEyeTracking(double mouseX, double mouseY, MinecraftClient client, double lastMouseUpdateTime, boolean holdingLeftMouseButton, boolean usingLongRangedTool, Smoother smoothX, Smoother smoothY) {
+    public static void updateMouseWithEyeTracking(double mouseX, double mouseY, MinecraftClient client, boolean holdingLeftMouseButton, boolean usingLongRangedTool) {
         if (client.player == null) return;
         /* The player wants objects of interest to be moved under the crosshair that is always center of screen.
         * Normal mouse controls operate with the delta values from the direction of mouse movement,
@@ -20,7 +21,6 @@ public class EyeTrackerHandler {
         * from the crosshair to the gaze point. As the player keeps their eyes on the object of interest, we pull
         * that object into the center until the object is underneath the crosshair.
          */
-        double deltaTime = GlfwUtil.getTime() - lastMouseUpdateTime;
 
         // The center of screen is the new (0,0)
         double centerX = client.getWindow().getWidth() / 2.0;
@@ -31,15 +31,7 @@ public class EyeTrackerHandler {
         //This part follows the original mouse.java somewhat closely, with different constants
         double feeling = 2.5;
         double sensitivity = client.options.getMouseSensitivity().getValue() * feeling;
-        double spyglass = sensitivity * sensitivity * sensitivity;
-        double moveScalar = spyglass * 8.0;
-
-        double frameScalar;
-        if(client.options.getPerspective().isFirstPerson() && client.player.isUsingSpyglass()) {
-            frameScalar = spyglass;
-        } else {
-            frameScalar = moveScalar;
-        }
+        double frameScalar = sensitivity * sensitivity * sensitivity * 8.0;
         if(holdingLeftMouseButton && !usingLongRangedTool) {
             frameScalar *= 0.5; //Don't move the camera so much while mining. It's annoying.
         }
@@ -52,10 +44,6 @@ public class EyeTrackerHandler {
 
         double moveX = normalizedX * frameScalar;
         double moveY = normalizedY * frameScalar;
-        if (client.options.smoothCameraEnabled) {
-            moveX = smoothX.smooth(moveX, moveScalar*deltaTime);
-            moveY = smoothY.smooth(moveY, moveScalar*deltaTime);
-        }
 
         // The player entity's needs their facing rotated.
         double invertY = 1.0;
@@ -65,8 +53,8 @@ public class EyeTrackerHandler {
         }
         boolean notInDeadzone = (moveMagnitude > MidnightControlsConfig.eyeTrackerDeadzone) && !usingLongRangedTool;
         if (client.player != null && notInDeadzone) {
-            client.player.changeLookDirection(moveX, moveY * invertY);
-            client.getTutorialManager().onUpdateMouse(moveX, moveY);
+            MidnightControlsClient.input.look.pushDelta(LookPipeline.Source.EYE_TRACKER, System.nanoTime(),
+                    moveX * LookPipeline.MOUSE_UNIT, moveY * invertY * LookPipeline.MOUSE_UNIT);
         }
     }
 }
@@ -0,0 +1,136 @@
+package eu.midnightdust.midnightcontrols.client.mouse;
+
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.mixin.MouseAccessor;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.MathHelper;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Sub-pixel cursor driven by the controller, in window coordinates.
+ * <p>
+ * The position is integrated every frame from a velocity in pixels per second and the measured frame time,
+ * so the cursor moves smoothly at any frame rate instead of stepping once per tick.
+ */
+public class VirtualCursor {
+    // A velocity that is not refreshed for this long is dropped, so a disconnected controller can never keep moving the cursor.
+    private static final long STALE_TIME = 200_000_000L;
+    private static final long MAX_FRAME_TIME = 100_000_000L;
+
+    private double x = 0.0;
+    private double y = 0.0;
+    private double velocityX = 0.0;
+    private double velocityY = 0.0;
+    private long velocityXTime = 0L;
+    private long velocityYTime = 0L;
+    private long lastFrameTime = 0L;
+    private boolean moved = false;
+    private int windowX = Integer.MIN_VALUE;
+    private int windowY = Integer.MIN_VALUE;
+
+    public double getX() {
+        return this.x;
+    }
+
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Sets the horizontal velocity of the cursor.
+     *
+     * @param velocity the velocity, in window pixels per second
+     */
+    public void setVelocityX(double velocity) {
+        this.velocityX = velocity;
+        this.velocityXTime = System.nanoTime();
+    }
+
+    /**
+     * Sets the vertical velocity of the cursor.
+     *
+     * @param velocity the velocity, in window pixels per second
+     */
+    public void setVelocityY(double velocity) {
+        this.velocityY = velocity;
+        this.velocityYTime = System.nanoTime();
+    }
+
+    /**
+     * Moves the cursor to the specified position and stops it, the move is applied on the next frame.
+     *
+     * @param x the X position, in window pixels
+     * @param y the Y position, in window pixels
+     */
+    public void moveTo(double x, double y) {
+        var window = MinecraftClient.getInstance().getWindow();
+        this.x = MathHelper.clamp(x, 0, window.getWidth());
+        this.y = MathHelper.clamp(y, 0, window.getHeight());
+        this.velocityX = this.velocityY = 0.0;
+        this.moved = true;
+    }
+
+    /**
+     * Moves the cursor by the specified offset, the move is applied on the next frame.
+     *
+     * @param deltaX the horizontal offset, in window pixels
+     * @param deltaY the vertical offset, in window pixels
+     */
+    public void moveBy(double deltaX, double deltaY) {
+        double velocityX = this.velocityX, velocityY = this.velocityY;
+        this.moveTo(this.x + deltaX, this.y + deltaY);
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+    }
+
+    /**
+     * Places the cursor at the specified position without moving the mouse, and stops it.
+     *
+     * @param x the X position, in window pixels
+     * @param y the Y position, in window pixels
+     */
+    public void reset(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.velocityX = this.velocityY = 0.0;
+        this.moved = false;
+        this.windowX = (int) Math.round(x);
+        this.windowY = (int) Math.round(y);
+    }
+
+    /**
+     * Integrates the cursor movement since the last frame and forwards the new position to the mouse.
+     *
+     * @param client the client instance
+     * @param time the frame time, in nanoseconds
+     */
+    public void update(@NotNull MinecraftClient client, long time) {
+        long frameTime = this.lastFrameTime == 0L ? 0L : Math.min(time - this.lastFrameTime, MAX_FRAME_TIME);
+        this.lastFrameTime = time;
+
+        double seconds = frameTime / 1_000_000_000.0;
+        double deltaX = time - this.velocityXTime <= STALE_TIME ? this.velocityX * seconds : 0.0;
+        double deltaY = time - this.velocityYTime <= STALE_TIME ? this.velocityY * seconds : 0.0;
+        if (deltaX != 0.0 || deltaY != 0.0) {
+            var window = client.getWindow();
+            double x = MathHelper.clamp(this.x + deltaX, 0, window.getWidth());
+            double y = MathHelper.clamp(this.y + deltaY, 0, window.getHeight());
+            this.moved |= x != this.x || y != this.y;
+            this.x = x;
+            this.y = y;
+        }
+        if (!this.moved) return;
+        this.moved = false;
+
+        long handle = client.getWindow().getHandle();
+        int windowX = (int) Math.round(this.x);
+        int windowY = (int) Math.round(this.y);
+        // The OS cursor only has whole pixels, so it is only moved when it would land on another one.
+        if (!MidnightControlsConfig.virtualMouse && (windowX != this.windowX || windowY != this.windowY))
+            GLFW.glfwSetCursorPos(handle, this.x, this.y);
+        this.windowX = windowX;
+        this.windowY = windowY;
+        ((MouseAccessor) client.mouse).midnightcontrols$onCursorPos(handle, this.x, this.y);
+    }
+}
@@ -35,6 +35,9 @@ public final class MidnightRing {
     private final Map<String, RingAction.Factory> actionFactories = new Object2ObjectOpenHashMap<>();
     private final List<RingPage> pages = new ArrayList<>(Collections.singletonList(RingPage.DEFAULT));
     private int currentPage = 0;
+    // The sources the pages were built from, so they are only rebuilt when those change.
+    private List<String> configSource = null;
+    private List<ButtonBinding> unboundSource = null;
 
     public MidnightRing() {
     }
@@ -52,44 +55,46 @@ public final class MidnightRing {
      */
     public void loadFromConfig() {
         List<String> configBindings = MidnightControlsConfig.ringBindings;
-        if (configBindings != null) {
-            this.pages.clear();
-            int bindingIndex = 0;
-            for (int i = 0; i < MathHelper.ceil(configBindings.size() / 8f); ++i) {
-                this.pages.add(new RingPage(i+1 + " / " + MathHelper.ceil(configBindings.size() / 8f)));
-            }
+        if (configBindings == null || configBindings.equals(this.configSource))
+            return;
+        this.configSource = List.copyOf(configBindings);
+        this.unboundSource = null;
 
-            for (String binding : configBindings) {
-                ButtonBinding buttonBinding = InputManager.getBinding(binding);
-                if (buttonBinding != null) {
-                    RingPage page = this.pages.get(MathHelper.floor(bindingIndex / 8f));
-                    page.actions[bindingIndex - 8 * (MathHelper.floor(bindingIndex / 8f))] = (new ButtonBindingRingAction(buttonBinding));
-                    ++bindingIndex;
-                }
-            }
-        }
-        if (this.pages.isEmpty()) {
-            this.pages.add(RingPage.DEFAULT);
+        List<ButtonBinding> bindings = new ArrayList<>();
+        for (String binding : configBindings) {
+            ButtonBinding buttonBinding = InputManager.getBinding(binding);
+            if (buttonBinding != null)
+                bindings.add(buttonBinding);
         }
+        this.loadPages(bindings);
     }
     /**
      * Loads the ring from all unbound keys.
+     * <p>
+     * The pages are only rebuilt when the unbound bindings changed since the last load.
      */
     public void loadFromUnbound() {
         List<ButtonBinding> unboundBindings = InputManager.getUnboundBindings();
-        if (unboundBindings != null) {
-            this.pages.clear();
-            int bindingIndex = 0;
-            for (int i = 0; i < MathHelper.ceil(unboundBindings.size() / 8f); ++i) {
-                this.pages.add(new RingPage(i+1 + " / " + MathHelper.ceil(unboundBindings.size() / 8f)));
-            }
+        if (unboundBindings == null || unboundBindings == this.unboundSource)
+            return;
+        this.unboundSource = unboundBindings;
+        this.configSource = null;
+        this.loadPages(unboundBindings);
+    }
+
+    private void loadPages(List<ButtonBinding> bindings) {
+        this.pages.clear();
+        int pageCount = MathHelper.ceil(bindings.size() / (float) RingPage.SIZE);
+        for (int i = 0; i < pageCount; ++i) {
+            this.pages.add(new RingPage(i+1 + " / " + pageCount));
+        }
 
-            for (ButtonBinding buttonBinding : unboundBindings) {
-                if (buttonBinding != null) {
-                    RingPage page = this.pages.get(MathHelper.floor(bindingIndex / 8f));
-                    page.actions[bindingIndex - 8 * (MathHelper.floor(bindingIndex / 8f))] = (new ButtonBindingRingAction(buttonBinding));
-                    ++bindingIndex;
-                }
+        int bindingIndex = 0;
+        for (ButtonBinding buttonBinding : bindings) {
+            if (buttonBinding != null) {
+                RingPage page = this.pages.get(bindingIndex / RingPage.SIZE);
+                page.actions[bindingIndex % RingPage.SIZE] = (new ButtonBindingRingAction(buttonBinding));
+                ++bindingIndex;
             }
         }
         if (this.pages.isEmpty()) {
@@ -10,6 +10,7 @@
 package eu.midnightdust.midnightcontrols.client.ring;
 
 import eu.midnightdust.midnightcontrols.client.MidnightControlsClient;
+import eu.midnightdust.midnightcontrols.client.util.RadialSelector;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.DrawContext;
 import org.jetbrains.annotations.NotNull;
@@ -22,15 +23,22 @@ import org.jetbrains.annotations.NotNull;
  * @since 1.4.0
  */
 public class RingPage {
+    /**
+     * The number of actions of a page, laid out clockwise from the top.
+     */
+    public static final int SIZE = 8;
+    public static final RadialSelector SELECTOR = new RadialSelector(SIZE);
+    // The actions keep the slot order of the former 3x3 grid, left to right then top to bottom, so configured rings keep their layout.
+    private static final int[] LEGACY_SLOTS = {1, 2, 4, 7, 6, 5, 3, 0};
     public static final RingPage DEFAULT = new RingPage("Default");
 
     public final String name;
     public static int selected = -1;
-    public RingAction[] actions = new RingAction[8];
+    public RingAction[] actions = new RingAction[SIZE];
 
     public RingPage(@NotNull String name) {
         this.name = name;
-        for (int i = 0; i < 8; i++) {
+        for (int i = 0; i < SIZE; i++) {
             this.actions[i] = null;
         }
     }
@@ -50,80 +58,53 @@ public class RingPage {
         int centerY = height / 2;
         if (MidnightControlsClient.ring.getMaxPages() > 1) context.drawCenteredTextWithShadow(textRenderer, name, centerX, 5, 0xffffff);
 
-        int offset = MidnightRing.ELEMENT_SIZE + (MidnightRing.ELEMENT_SIZE / 2) + 5;
-
-        int y = centerY - offset;
-        int x = centerX - offset;
-        for (int i = 0; i < 3; i++) {
-            var ringAction = this.actions[i];
-            if (ringAction != null)
-                ringAction.render(context, textRenderer, x, y, isHovered(x, y, mouseX, mouseY), i);
-            x += MidnightRing.ELEMENT_SIZE + 5;
-        }
-        y += MidnightRing.ELEMENT_SIZE + 5;
-        x = centerX - offset;
-        for (int i = 3; i < 5; i++) {
-            var ringAction = this.actions[i];
-            if (ringAction != null)
-                ringAction.render(context, textRenderer, x, y, isHovered(x, y, mouseX, mouseY), i);
-            x += (MidnightRing.ELEMENT_SIZE + 5) * 2;
-        }
-        y += MidnightRing.ELEMENT_SIZE + 5;
-        x = centerX - offset;
-        for (int i = 5; i < 8; i++) {
-            var ringAction = this.actions[i];
+        int hovered = getHovered(width, height, mouseX, mouseY);
+        for (int sector = 0; sector < SIZE; sector++) {
+            int slot = getSlot(sector);
+            var ringAction = this.actions[slot];
             if (ringAction != null)
-                ringAction.render(context, textRenderer, x, y, isHovered(x, y, mouseX, mouseY), i);
-            x += MidnightRing.ELEMENT_SIZE + 5;
+                ringAction.render(context, textRenderer, SELECTOR.getX(sector), SELECTOR.getY(sector), sector == hovered, slot);
         }
     }
 
-    private static boolean isHovered(int x, int y, int mouseX, int mouseY) {
-        return mouseX >= x && mouseY >= y && mouseX <= x + MidnightRing.ELEMENT_SIZE && mouseY <= y + MidnightRing.ELEMENT_SIZE && selected < 0;
+    /**
+     * Gets the slot of the action shown in the specified sector.
+     *
+     * @param sector the sector, clockwise from the top
+     * @return the index of the action in the page
+     */
+    public static int getSlot(int sector) {
+        return SIZE == LEGACY_SLOTS.length ? LEGACY_SLOTS[sector] : sector;
     }
+
     /**
-     * Renders the ring page.
+     * Lays the actions out around the centre of the screen and gets the one under the mouse.
+     *
+     * @return the sector of the hovered action, or -1 if none or if an action is selected with a controller
+     */
+    private static int getHovered(int width, int height, int mouseX, int mouseY) {
+        int centerX = width / 2;
+        int centerY = height / 2;
+        SELECTOR.layout(centerX, centerY, MidnightRing.ELEMENT_SIZE + 5, MidnightRing.ELEMENT_SIZE);
+        if (selected >= 0)
+            return -1;
+        return SELECTOR.hit(mouseX, mouseY);
+    }
+
+    /**
+     * Activates the action under the mouse.
      *
      * @param width the screen width
      * @param height the screen height
      * @param mouseX the mouse X-coordinate
      * @param mouseY the mouse Y-coordinate
+     * @return true if an action was activated, else false
      */
     public boolean onClick(int width, int height, int mouseX, int mouseY) {
-        int centerX = width / 2;
-        int centerY = height / 2;
-
-        int offset = MidnightRing.ELEMENT_SIZE + (MidnightRing.ELEMENT_SIZE / 2) + 5;
-
-        int y = centerY - offset;
-        int x = centerX - offset;
-        for (int i = 0; i < 3; i++) {
-            var ringAction = this.actions[i];
-            if (ringAction != null && isHovered(x,y,mouseX,mouseY)) {
-                ringAction.activate(RingButtonMode.PRESS);
-                return true;
-            }
-            x += MidnightRing.ELEMENT_SIZE + 5;
-        }
-        y += MidnightRing.ELEMENT_SIZE + 5;
-        x = centerX - offset;
-        for (int i = 3; i < 5; i++) {
-            var ringAction = this.actions[i];
-            if (ringAction != null && isHovered(x,y,mouseX,mouseY)) {
-                ringAction.activate(RingButtonMode.PRESS);
-                return true;
-            }
-            x += (MidnightRing.ELEMENT_SIZE + 5) * 2;
-        }
-        y += MidnightRing.ELEMENT_SIZE + 5;
-        x = centerX - offset;
-        for (int i = 5; i < 8; i++) {
-            var ringAction = this.actions[i];
-            if (ringAction != null && isHovered(x,y,mouseX,mouseY)) {
-                ringAction.activate(RingButtonMode.PRESS);
-                return true;
-            }
-            x += MidnightRing.ELEMENT_SIZE + 5;
+        int hovered = getHovered(width, height, mouseX, mouseY);
+        if (hovered >= 0 && this.actions[getSlot(hovered)] != null) {
+            this.actions[getSlot(hovered)].activate(RingButtonMode.PRESS);
+            return true;
         }
         return false;
     }
@@ -0,0 +1,158 @@
+package eu.midnightdust.midnightcontrols.client.touch;
+
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Recognizes touch gestures from pointer events timestamped with {@link System#nanoTime()}.
+ * <p>
+ * A press held for the break delay without moving becomes a long press, a press moving further than the slop becomes a drag,
+ * and a drag released faster than the flick velocity is a flick. A press released before becoming either is a tap.
+ */
+public class GestureRecognizer {
+    // Distances are in scaled pixels.
+    private static final double DRAG_SLOP = 4.0;
+    private static final double FLICK_VELOCITY = 600.0;
+    // A pointer resting this long before its release has no velocity left.
+    private static final long VELOCITY_TIMEOUT = 100_000_000L;
+
+    private final GestureListener listener;
+    private State state = State.IDLE;
+    private boolean moved = false;
+    private double startX, startY;
+    private double x, y;
+    private long startTime;
+    private long lastMoveTime;
+    private double velocityX, velocityY;
+
+    public GestureRecognizer(@NotNull GestureListener listener) {
+        this.listener = listener;
+    }
+
+    public @NotNull State getState() {
+        return this.state;
+    }
+
+    public double getX() {
+        return this.x;
+    }
+
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Returns whether the pointer moves the camera, which is when it moved past the slop during a drag or a long press.
+     *
+     * @return true if the pointer is dragged, else false
+     */
+    public boolean isDragging() {
+        return this.moved && this.state != State.IDLE;
+    }
+
+    public void press(double x, double y, long time) {
+        this.state = State.PRESSED;
+        this.moved = false;
+        this.startX = this.x = x;
+        this.startY = this.y = y;
+        this.startTime = this.lastMoveTime = time;
+        this.velocityX = this.velocityY = 0.0;
+    }
+
+    public void move(double x, double y, long time) {
+        if (this.state == State.IDLE)
+            return;
+        this.update(time);
+        long delta = time - this.lastMoveTime;
+        if (delta > 0) {
+            this.velocityX = (x - this.x) * 1_000_000_000.0 / delta;
+            this.velocityY = (y - this.y) * 1_000_000_000.0 / delta;
+        }
+        this.x = x;
+        this.y = y;
+        this.lastMoveTime = time;
+
+        double dx = x - this.startX, dy = y - this.startY;
+        if (!this.moved && dx * dx + dy * dy > DRAG_SLOP * DRAG_SLOP) {
+            this.moved = true;
+            if (this.state == State.PRESSED) {
+                this.state = State.DRAG;
+                this.listener.onGesture(Gesture.DRAG, x, y);
+            }
+        }
+    }
+
+    /**
+     * Ends the current gesture.
+     *
+     * @param x the X position of the pointer
+     * @param y the Y position of the pointer
+     * @param time the event time, in nanoseconds
+     * @return true if the recognized gesture was consumed, else false
+     */
+    public boolean release(double x, double y, long time) {
+        this.update(time);
+        var state = this.state;
+        this.state = State.IDLE;
+        this.x = x;
+        this.y = y;
+        return switch (state) {
+            case IDLE -> false;
+            case PRESSED -> this.listener.onGesture(Gesture.TAP, x, y);
+            case LONG_PRESS -> this.listener.onGesture(Gesture.LONG_PRESS_END, x, y);
+            case DRAG -> {
+                boolean recent = time - this.lastMoveTime <= VELOCITY_TIMEOUT;
+                double velocity = Math.sqrt(this.velocityX * this.velocityX + this.velocityY * this.velocityY);
+                yield this.listener.onGesture(recent && velocity >= FLICK_VELOCITY ? Gesture.FLICK : Gesture.DRAG_END, x, y);
+            }
+        };
+    }
+
+    /**
+     * Drops the current gesture without recognizing it.
+     */
+    public void cancel() {
+        this.state = State.IDLE;
+    }
+
+    /**
+     * Advances the time based transitions, called every frame and before every pointer event.
+     *
+     * @param time the current time, in nanoseconds
+     */
+    public void update(long time) {
+        if (this.state == State.PRESSED && time - this.startTime >= MidnightControlsConfig.touchBreakDelay * 1_000_000L) {
+            this.state = State.LONG_PRESS;
+            this.listener.onGesture(Gesture.LONG_PRESS, this.x, this.y);
+        }
+    }
+
+    public enum State {
+        IDLE,
+        PRESSED,
+        LONG_PRESS,
+        DRAG
+    }
+
+    public enum Gesture {
+        TAP,
+        LONG_PRESS,
+        LONG_PRESS_END,
+        DRAG,
+        DRAG_END,
+        FLICK
+    }
+
+    @FunctionalInterface
+    public interface GestureListener {
+        /**
+         * Handles a recognized gesture.
+         *
+         * @param gesture the gesture
+         * @param x the X position of the pointer
+         * @param y the Y position of the pointer
+         * @return true if the gesture was consumed, else false
+         */
+        boolean onGesture(@NotNull Gesture gesture, double x, double y);
+    }
+}
@@ -16,18 +16,45 @@ import static eu.midnightdust.midnightcontrols.client.MidnightControlsConfig.doM
 
 public class TouchInput {
     private static final MinecraftClient client = MinecraftClient.getInstance();
-    public static long clickStartTime;
+    public static final GestureRecognizer gestures = new GestureRecognizer(TouchInput::onGesture);
     public static HitResult firstHitResult = null;
-    public static boolean isDragging = false;
 
     public static void tick() {
-        if ((client.currentScreen == null && doMixedInput()) || client.currentScreen instanceof TouchscreenOverlay) {
-            double scaleFactor = client.getWindow().getScaleFactor();
-            if (clickStartTime > 0 && System.currentTimeMillis() - clickStartTime >= MidnightControlsConfig.touchBreakDelay) {
-                mouseHeldDown(client.mouse.getX() / scaleFactor, client.mouse.getY() / scaleFactor);
-            }
+        if (isInWorld()) {
+            // Block breaking progresses per tick, the long press itself is recognized as soon as it happens.
+            if (gestures.getState() == GestureRecognizer.State.LONG_PRESS)
+                mouseHeldDown(gestures.getX(), gestures.getY());
         }
     }
+
+    public static void mousePressed(double mouseX, double mouseY) {
+        firstHitResult = TouchUtils.getTargetedObject(mouseX, mouseY);
+        gestures.press(mouseX, mouseY, System.nanoTime());
+    }
+
+    /**
+     * Returns whether touches interact with the world, which is when no screen other than the touchscreen overlay is open.
+     *
+     * @return true if touches interact with the world, else false
+     */
+    private static boolean isInWorld() {
+        return (client.currentScreen == null && doMixedInput()) || client.currentScreen instanceof TouchscreenOverlay;
+    }
+
+    private static boolean onGesture(GestureRecognizer.Gesture gesture, double mouseX, double mouseY) {
+        // Long presses are recognized every frame, even when a screen opened during the press.
+        if (client.player == null || client.world == null || client.interactionManager == null || !isInWorld())
+            return false;
+        return switch (gesture) {
+            case TAP -> tap(mouseX, mouseY);
+            case LONG_PRESS -> {
+                mouseHeldDown(mouseX, mouseY);
+                yield false;
+            }
+            // Drags move the camera from the touchscreen overlay, and flicks only end them.
+            default -> false;
+        };
+    }
     public static void mouseHeldDown(double mouseX, double mouseY) {
         assert client != null;
         assert client.player != null;
@@ -59,49 +86,52 @@ public class TouchInput {
         }
     }
     public static boolean mouseReleased(double mouseX, double mouseY, int button) {
-        isDragging = false;
         firstHitResult = null;
         if (client.interactionManager != null) client.interactionManager.cancelBlockBreaking();
-        if ((client.currentScreen == null || !client.currentScreen.mouseReleased(mouseX, mouseY, button)) && System.currentTimeMillis() - clickStartTime < MidnightControlsConfig.touchBreakDelay) {
-            assert client.player != null;
-            assert client.world != null;
-            assert client.interactionManager != null;
-            clickStartTime = -1;
+        if (client.currentScreen != null && client.currentScreen.mouseReleased(mouseX, mouseY, button)) {
+            gestures.cancel();
+            return false;
+        }
+        return gestures.release(mouseX, mouseY, System.nanoTime());
+    }
 
-            if (client.player.getMainHandStack() != null && TouchUtils.hasInWorldUseAction(client.player.getMainHandStack())) {
-                client.interactionManager.stopUsingItem(client.player);
-                return true;
-            }
-            HitResult result = TouchUtils.getTargetedObject(mouseX, mouseY);
-            if (result == null) return false;
+    private static boolean tap(double mouseX, double mouseY) {
+        assert client.player != null;
+        assert client.world != null;
+        assert client.interactionManager != null;
+
+        if (client.player.getMainHandStack() != null && TouchUtils.hasInWorldUseAction(client.player.getMainHandStack())) {
+            client.interactionManager.stopUsingItem(client.player);
+            return true;
+        }
+        HitResult result = TouchUtils.getTargetedObject(mouseX, mouseY);
+        if (result == null) return false;
 
 
-            if (result instanceof BlockHitResult blockHit) {
-                BlockPos blockPos = blockHit.getBlockPos().offset(blockHit.getSide());
-                BlockState state = client.world.getBlockState(blockPos);
+        if (result instanceof BlockHitResult blockHit) {
+            BlockPos blockPos = blockHit.getBlockPos().offset(blockHit.getSide());
+            BlockState state = client.world.getBlockState(blockPos);
 
-                if (client.world.isAir(blockPos) || state.isReplaceable()) {
-                    ItemStack stackInHand = client.player.getMainHandStack();
-                    int previousStackCount = stackInHand.getCount();
-                    var interaction = client.interactionManager.interactBlock(client.player, client.player.getActiveHand(), blockHit);
-                    if (interaction.isAccepted()) {
-                        //if (interaction.shouldSwingHand()) {
-                            client.player.swingHand(client.player.preferredHand);
-                            if (!stackInHand.isEmpty() && (stackInHand.getCount() != previousStackCount || client.interactionManager.hasCreativeInventory())) {
-                                client.gameRenderer.firstPersonRenderer.resetEquipProgress(client.player.preferredHand);
-                            }
-                        //}
-                        return true;
-                    }
+            if (client.world.isAir(blockPos) || state.isReplaceable()) {
+                ItemStack stackInHand = client.player.getMainHandStack();
+                int previousStackCount = stackInHand.getCount();
+                var interaction = client.interactionManager.interactBlock(client.player, client.player.getActiveHand(), blockHit);
+                if (interaction.isAccepted()) {
+                    //if (interaction.shouldSwingHand()) {
+                        client.player.swingHand(client.player.preferredHand);
+                        if (!stackInHand.isEmpty() && (stackInHand.getCount() != previousStackCount || client.interactionManager.hasCreativeInventory())) {
+                            client.gameRenderer.firstPersonRenderer.resetEquipProgress(client.player.preferredHand);
+                        }
+                    //}
+                    return true;
                 }
             }
-            if (result instanceof EntityHitResult entityHit) {
-                client.interactionManager.attackEntity(client.player, entityHit.getEntity());
-                client.player.swingHand(Hand.MAIN_HAND);
-                return true;
-            }
         }
-        clickStartTime = -1;
+        if (result instanceof EntityHitResult entityHit) {
+            client.interactionManager.attackEntity(client.player, entityHit.getEntity());
+            client.player.swingHand(Hand.MAIN_HAND);
+            return true;
+        }
         return false;
     }
 }
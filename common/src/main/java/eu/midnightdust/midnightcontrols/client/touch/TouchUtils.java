@@ -16,7 +16,6 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.RaycastContext;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.lwjgl.opengl.GL11;
 
 import static eu.midnightdust.midnightcontrols.client.MidnightReacharound.getPlayerRange;
 
@@ -25,16 +24,48 @@ public class TouchUtils {
     public static final Matrix4f lastWorldSpaceMatrix = new Matrix4f();
     public static final Matrix4f lastProjMat = new Matrix4f();
     public static final Matrix4f lastModMat = new Matrix4f();
+    public static final Matrix4f lastInverseMatrix = new Matrix4f();
+    public static final int[] lastViewport = new int[4];
+    // Unprojection only happens on the client thread, so the result vector is reused.
+    private static final Vector3f UNPROJECTED = new Vector3f();
+    private static final double POINTER_EPSILON = 0.5;
+    private static final double CAMERA_EPSILON = 1.0E-3;
+    private static long frame = 0;
+    private static long hitFrame = -1;
+    private static double hitX, hitY;
+    private static HitResult lastHitResult = null;
+    private static long entityTick = -1;
+    private static double entityX, entityY;
+    private static Vec3d entityCameraPos = Vec3d.ZERO;
+    private static float entityCameraYaw, entityCameraPitch;
+    private static EntityHitResult lastEntityHitResult = null;
 
+    /**
+     * Gets the object targeted by the pointer, resolved at most once per frame for the same pointer position.
+     *
+     * @param mouseX the X position of the pointer, scaled
+     * @param mouseY the Y position of the pointer, scaled
+     * @return the targeted object, or null if it is out of reach
+     */
     public static HitResult getTargetedObject(double mouseX, double mouseY) {
         if (client.player == null || client.world == null || MidnightControlsConfig.touchMode == TouchMode.CROSSHAIR || PlatformFunctions.isModLoaded("vulkanmod")) {
             return client.crosshairTarget;
         }
+        if (hitFrame == frame && hitX == mouseX && hitY == mouseY)
+            return lastHitResult;
+        hitFrame = frame;
+        hitX = mouseX;
+        hitY = mouseY;
+        lastHitResult = resolveTargetedObject(mouseX, mouseY);
+        return lastHitResult;
+    }
+
+    private static HitResult resolveTargetedObject(double mouseX, double mouseY) {
         Vec3d near = screenSpaceToWorldSpace(mouseX, mouseY, 0);
         Vec3d far = screenSpaceToWorldSpace(mouseX, mouseY, 1);
 
         float playerRange = getPlayerRange(client);
-        EntityHitResult entityCast = ProjectileUtil.raycast(client.player, near, far, Box.from(client.player.getPos()).expand(playerRange), entity -> (!entity.isSpectator() && entity.isAttackable()), playerRange * playerRange);
+        EntityHitResult entityCast = getTargetedEntity(mouseX, mouseY, near, far, playerRange);
 
         if (entityCast != null && entityCast.getType() == HitResult.Type.ENTITY) return entityCast;
 
@@ -44,25 +75,49 @@ public class TouchUtils {
         return result;
     }
 
+    private static EntityHitResult getTargetedEntity(double mouseX, double mouseY, Vec3d near, Vec3d far, float playerRange) {
+        // Entities only move on ticks, so the last cast stays valid within a tick while the view and the pointer stay put.
+        Camera camera = client.getEntityRenderDispatcher().camera;
+        long tick = client.world.getTime();
+        if (entityTick == tick && Math.abs(entityX - mouseX) <= POINTER_EPSILON && Math.abs(entityY - mouseY) <= POINTER_EPSILON
+                && camera.getPos().squaredDistanceTo(entityCameraPos) <= CAMERA_EPSILON * CAMERA_EPSILON
+                && Math.abs(camera.getYaw() - entityCameraYaw) <= CAMERA_EPSILON && Math.abs(camera.getPitch() - entityCameraPitch) <= CAMERA_EPSILON)
+            return lastEntityHitResult;
+
+        entityTick = tick;
+        entityX = mouseX;
+        entityY = mouseY;
+        entityCameraPos = camera.getPos();
+        entityCameraYaw = camera.getYaw();
+        entityCameraPitch = camera.getPitch();
+        lastEntityHitResult = ProjectileUtil.raycast(client.player, near, far, Box.from(client.player.getPos()).expand(playerRange), entity -> (!entity.isSpectator() && entity.isAttackable()), playerRange * playerRange);
+        return lastEntityHitResult;
+    }
+
+    /**
+     * Captures the viewport and the inverse view-projection matrix used to unproject the pointer, called every frame.
+     *
+     * @param viewportWidth the width of the viewport of the world
+     * @param viewportHeight the height of the viewport of the world
+     */
+    public static void captureFrame(int viewportWidth, int viewportHeight) {
+        frame++;
+        lastViewport[2] = viewportWidth;
+        lastViewport[3] = viewportHeight;
+        lastInverseMatrix.set(lastProjMat).mul(lastModMat).mul(lastWorldSpaceMatrix).invert();
+    }
+
     /* Taken from https://github.com/0x3C50/Renderer/blob/master/src/main/java/me/x150/renderer/util/RendererUtils.java#L270
      * Credits to 0x3C50 */
     public static Vec3d screenSpaceToWorldSpace(double x, double y, double d) {
         Camera camera = client.getEntityRenderDispatcher().camera;
         int displayHeight = client.getWindow().getScaledHeight();
         int displayWidth = client.getWindow().getScaledWidth();
-        int[] viewport = new int[4];
-        GL11.glGetIntegerv(GL11.GL_VIEWPORT, viewport);
-        Vector3f target = new Vector3f();
-
-        Matrix4f matrixProj = new Matrix4f(lastProjMat);
-        Matrix4f matrixModel = new Matrix4f(lastModMat);
 
-        matrixProj.mul(matrixModel)
-                .mul(lastWorldSpaceMatrix)
-                .unproject((float) x / displayWidth * viewport[2],
-                        (float) (displayHeight - y) / displayHeight * viewport[3], (float) d, viewport, target);
+        lastInverseMatrix.unprojectInv((float) x / displayWidth * lastViewport[2],
+                (float) (displayHeight - y) / displayHeight * lastViewport[3], (float) d, lastViewport, UNPROJECTED);
 
-        return new Vec3d(target.x, target.y, target.z).add(camera.getPos());
+        return camera.getPos().add(UNPROJECTED.x, UNPROJECTED.y, UNPROJECTED.z);
     }
 
     public static boolean hasInWorldUseAction(ItemStack stack) {
@@ -0,0 +1,124 @@
+package eu.midnightdust.midnightcontrols.client.touch.gui;
+
+import eu.midnightdust.lib.util.PlatformFunctions;
+import eu.midnightdust.midnightcontrols.MidnightControls;
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.controller.InputManager;
+import eu.midnightdust.midnightcontrols.client.enums.HudSide;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.MissingSprite;
+import net.minecraft.util.Arm;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static eu.midnightdust.midnightcontrols.MidnightControls.id;
+
+/**
+ * Positions of the touchscreen overlay buttons, with the bindings and sprites of the custom buttons.
+ * <p>
+ * The layout is resolved once per window size and configuration, and again after a resource reload,
+ * so initializing the overlay only has to instantiate the widgets.
+ */
+public class TouchLayout {
+    private static final Identifier EMPTY_SPRITE = id("touch/empty");
+    private static TouchLayout current = null;
+
+    private final int width;
+    private final int height;
+    private final Arm mainArm;
+    private final HudSide hudSide;
+    private final List<String> leftBinds;
+    private final List<String> rightBinds;
+    public final boolean emotes;
+    public final int menuX;
+    public final int inventoryX;
+    public final int inventoryY;
+    public final int jumpX;
+    public final int swapHandsX;
+    public final int sneakX;
+    public final int sneakY;
+    public final List<CustomButton> customButtons = new ArrayList<>();
+
+    private TouchLayout(@NotNull MinecraftClient client, int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.mainArm = client.options.getMainArm().getValue();
+        this.hudSide = MidnightControlsConfig.hudSide;
+        this.leftBinds = List.copyOf(MidnightControlsConfig.leftTouchBinds);
+        this.rightBinds = List.copyOf(MidnightControlsConfig.rightTouchBinds);
+
+        this.emotes = PlatformFunctions.isModLoaded("emotecraft");
+        this.menuX = width / 2 + (this.emotes ? 10 : 0);
+        this.inventoryX = this.mainArm == Arm.LEFT ? width / 2 - 91 - 24 : width / 2 + 91 + 4;
+        this.inventoryY = height - 16 - 5;
+        this.sneakY = height - 10 - 40 - 5;
+        if (this.hudSide == HudSide.LEFT) {
+            this.jumpX = width - 20 - 20;
+            this.swapHandsX = this.jumpX - 5 - 40;
+            this.sneakX = 10 + 20 + 5;
+        } else {
+            this.jumpX = 20;
+            this.swapHandsX = this.jumpX + 5 + 40;
+            this.sneakX = width - 10 - 40 - 5;
+        }
+
+        var atlas = client.getGuiAtlasManager();
+        var missingSprite = atlas.getSprite(MissingSprite.getMissingSpriteId());
+        for (int side = 0; side < 2; side++) {
+            boolean left = side == 0;
+            var list = left ? this.leftBinds : this.rightBinds;
+            for (int i = 0; i < list.size(); i++) {
+                String bindName = list.get(i);
+                ButtonBinding binding = InputManager.getBinding(bindName);
+                if (binding == null) continue;
+                boolean hasTexture = atlas.getSprite(id("binding/" + bindName)) != missingSprite;
+                if (MidnightControlsConfig.debug) MidnightControls.log("Touch binding " + id("binding/" + bindName) + (left ? " on the left" : " on the right") + (hasTexture ? "" : ", without texture"));
+                this.customButtons.add(new CustomButton(binding, hasTexture ? id("binding/" + bindName) : EMPTY_SPRITE, hasTexture,
+                        left ? (3 + (i * 23)) : width - (23 + (i * 23)), 3));
+            }
+        }
+    }
+
+    private boolean matches(@NotNull MinecraftClient client, int width, int height) {
+        return this.width == width && this.height == height && this.mainArm == client.options.getMainArm().getValue()
+                && this.hudSide == MidnightControlsConfig.hudSide
+                && this.leftBinds.equals(MidnightControlsConfig.leftTouchBinds) && this.rightBinds.equals(MidnightControlsConfig.rightTouchBinds);
+    }
+
+    /**
+     * Gets the layout of the overlay for the specified size, resolving it if the size or the configuration changed.
+     *
+     * @param client the client instance
+     * @param width the scaled width of the window
+     * @param height the scaled height of the window
+     * @return the layout
+     */
+    public static @NotNull TouchLayout get(@NotNull MinecraftClient client, int width, int height) {
+        if (current == null || !current.matches(client, width, height))
+            current = new TouchLayout(client, width, height);
+        return current;
+    }
+
+    /**
+     * Drops the resolved layout, called when the resources are reloaded.
+     */
+    public static void clear() {
+        current = null;
+    }
+
+    /**
+     * Represents a custom binding button of the overlay.
+     *
+     * @param binding the binding pressed by the button
+     * @param texture the texture of the button
+     * @param hasTexture true if the binding has its own texture, else false
+     * @param x the X position of the button
+     * @param y the Y position of the button
+     */
+    public record CustomButton(ButtonBinding binding, Identifier texture, boolean hasTexture, int x, int y) {
+    }
+}
@@ -16,27 +16,20 @@ import net.minecraft.client.gui.screen.GameMenuScreen;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.item.ArmorItem;
 import net.minecraft.item.consume.UseAction;
-import net.minecraft.util.Arm;
 import net.minecraft.util.Hand;
 import net.minecraft.util.Identifier;
 import org.thinkingstudio.obsidianui.Position;
 import org.thinkingstudio.obsidianui.widget.SpruceButtonWidget;
-import eu.midnightdust.lib.util.PlatformFunctions;
 import eu.midnightdust.midnightcontrols.MidnightControlsConstants;
 import eu.midnightdust.midnightcontrols.client.enums.ButtonState;
-import eu.midnightdust.midnightcontrols.client.enums.HudSide;
 import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
 import eu.midnightdust.midnightcontrols.client.compat.EmotecraftCompat;
-import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
-import eu.midnightdust.midnightcontrols.client.controller.InputManager;
 import eu.midnightdust.midnightcontrols.client.touch.TouchUtils;
 import eu.midnightdust.midnightcontrols.client.util.KeyBindingAccessor;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.screen.ingame.InventoryScreen;
 import net.minecraft.client.gui.widget.TextIconButtonWidget;
 import net.minecraft.client.option.KeyBinding;
-import net.minecraft.client.texture.MissingSprite;
-import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.util.InputUtil;
 import net.minecraft.network.packet.c2s.play.PlayerActionC2SPacket;
 import net.minecraft.text.Text;
@@ -44,7 +37,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import org.lwjgl.glfw.GLFW;
 
-import java.util.List;
 import java.util.Objects;
 
 import static eu.midnightdust.midnightcontrols.MidnightControls.id;
@@ -162,31 +154,21 @@ public class TouchscreenOverlay extends Screen {
         assert this.client != null;
         assert this.client.player != null;
         assert this.client.interactionManager != null;
-        int scaledWidth = this.client.getWindow().getScaledWidth();
-        int scaledHeight = this.client.getWindow().getScaledHeight();
-        int emoteOffset = 0;
-        if (PlatformFunctions.isModLoaded("emotecraft")) {
-            emoteOffset = 10;
+        var layout = TouchLayout.get(this.client, this.client.getWindow().getScaledWidth(), this.client.getWindow().getScaledHeight());
+        if (layout.emotes) {
             TextIconButtonWidget emoteButton = TextIconButtonWidget.builder(Text.empty(), btn -> EmotecraftCompat.openEmotecraftScreen(this), true).width(20).texture(id("touch/emote"), 20, 20).build();
-            emoteButton.setPosition(scaledWidth / 2 - 30, 0);
+            emoteButton.setPosition(layout.menuX - 40, 0);
             this.addDrawableChild(emoteButton);
         }
 
         TextIconButtonWidget chatButton = TextIconButtonWidget.builder(Text.empty(), btn -> this.client.setScreen(new ChatScreen("")), true).width(20).texture(id("touch/chat"), 20, 20).build();
-        chatButton.setPosition(scaledWidth / 2 - 20 + emoteOffset, 0);
+        chatButton.setPosition(layout.menuX - 20, 0);
         this.addDrawableChild(chatButton);
         TextIconButtonWidget pauseButton = TextIconButtonWidget.builder(Text.empty(), btn -> this.pauseGame(), true).width(20).texture(id("touch/pause"), 20, 20).build();
-        pauseButton.setPosition(scaledWidth / 2 + emoteOffset, 0);
+        pauseButton.setPosition(layout.menuX, 0);
         this.addDrawableChild(pauseButton);
         // Inventory buttons.
-        int inventoryButtonX = scaledWidth / 2;
-        int inventoryButtonY = scaledHeight - 16 - 5;
-        if (this.client.options.getMainArm().getValue() == Arm.LEFT) {
-            inventoryButtonX = inventoryButtonX - 91 - 24;
-        } else {
-            inventoryButtonX = inventoryButtonX + 91 + 4;
-        }
-        this.addDrawableChild(this.inventoryButton = new SilentTexturedButtonWidget(Position.of(inventoryButtonX, inventoryButtonY), 20, 20, Text.empty(), btn -> {
+        this.addDrawableChild(this.inventoryButton = new SilentTexturedButtonWidget(Position.of(layout.inventoryX, layout.inventoryY), 20, 20, Text.empty(), btn -> {
             if (this.client.interactionManager.hasRidingInventory()) {
                 this.client.player.openRidingInventory();
             } else {
@@ -195,17 +177,8 @@ public class TouchscreenOverlay extends Screen {
             }
         }, 20, 0, 20, WIDGETS_LOCATION, 256, 256));
                 ;
-        int jumpButtonX, swapHandsX, sneakButtonX;
-        int sneakButtonY = scaledHeight - 10 - 40 - 5;
-        if (MidnightControlsConfig.hudSide == HudSide.LEFT) {
-            jumpButtonX = scaledWidth - 20 - 20;
-            swapHandsX = jumpButtonX - 5 - 40;
-            sneakButtonX = 10 + 20 + 5;
-        } else {
-            jumpButtonX = 20;
-            swapHandsX = jumpButtonX + 5 + 40;
-            sneakButtonX = scaledWidth - 10 - 40 - 5;
-        }
+        int jumpButtonX = layout.jumpX, swapHandsX = layout.swapHandsX, sneakButtonX = layout.sneakX;
+        int sneakButtonY = layout.sneakY;
         // Swap items hand.
         this.addDrawableChild(this.swapHandsButton = new SilentTexturedButtonWidget(Position.of(swapHandsX, sneakButtonY), 20, 20, Text.empty(),
                 button -> {
@@ -282,25 +255,17 @@ public class TouchscreenOverlay extends Screen {
         this.addDrawableChild(this.leftButton = new SilentTexturedButtonWidget(Position.of(sneakButtonX - 20 - 5, sneakButtonY), 20, 20, Text.empty(),
                 btn -> ((KeyBindingAccessor) this.client.options.leftKey).midnightcontrols$handlePressState(btn.isActive()), 60, 80, 20, WIDGETS_LOCATION
         ));
-        initCustomButtons(true);
-        initCustomButtons(false);
+        this.initCustomButtons(layout);
 
         this.setButtonProperties(MidnightControlsConfig.touchTransparency / 100f);
     }
-    private void initCustomButtons(boolean left) {
+    private void initCustomButtons(TouchLayout layout) {
         assert client != null;
-        Identifier emptySprite = id("touch/empty");
-        List<String> list = left ? MidnightControlsConfig.leftTouchBinds : MidnightControlsConfig.rightTouchBinds;
-        Sprite missingSprite = client.getGuiAtlasManager().getSprite(MissingSprite.getMissingSpriteId());
-        for (int i = 0; i < list.size(); i++) {
-            String bindName = list.get(i);
-            ButtonBinding binding = InputManager.getBinding(bindName);
-            if (binding == null) continue;
-            boolean hasTexture = client.getGuiAtlasManager().getSprite(id("binding/"+bindName)) != missingSprite;
-            if (MidnightControlsConfig.debug) System.out.println(left +" "+id("binding/"+bindName)+" "+ hasTexture);
-            var button = TextIconButtonWidget.builder(Text.translatable(binding.getTranslationKey()), b -> binding.handle(client, 1, ButtonState.PRESS), hasTexture)
-                    .texture(hasTexture ? id("binding/"+bindName) : emptySprite, 20, 20).dimension(20, 20).build();
-            button.setPosition(left ? (3+(i*23)) : this.width-(23+(i*23)), 3);
+        for (var customButton : layout.customButtons) {
+            var binding = customButton.binding();
+            var button = TextIconButtonWidget.builder(Text.translatable(binding.getTranslationKey()), b -> binding.handle(client, 1, ButtonState.PRESS), customButton.hasTexture())
+                    .texture(customButton.texture(), 20, 20).dimension(20, 20).build();
+            button.setPosition(customButton.x(), customButton.y());
             button.setAlpha(MidnightControlsConfig.touchTransparency / 100f);
             this.addDrawableChild(button);
         }
@@ -347,7 +312,7 @@ public class TouchscreenOverlay extends Screen {
     @Override
     public boolean mouseDragged(double mouseX, double mouseY, int button, double deltaX, double deltaY) {
         if (button == GLFW.GLFW_MOUSE_BUTTON_1 && this.client != null) {
-            if (TouchInput.isDragging) {
+            if (TouchInput.gestures.isDragging()) {
                 if (!MidnightControlsConfig.invertTouch) {
                     deltaX = -deltaX;
                     deltaY = -deltaY;
@@ -355,7 +320,6 @@ public class TouchscreenOverlay extends Screen {
                 input.handleTouchscreenLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_Y, (float) deltaY, 0.25d));
                 input.handleTouchscreenLook(AxisStorage.of(GLFW_GAMEPAD_AXIS_RIGHT_X, (float) deltaX, 0.25d));
             }
-            else TouchInput.isDragging = true;
         }
         return super.mouseDragged(mouseX, mouseY, button, deltaX, deltaY);
     }
@@ -0,0 +1,144 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.touch.TouchInput;
+import net.minecraft.block.ShapeContext;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.ItemPlacementContext;
+import net.minecraft.item.ItemUsageContext;
+import net.minecraft.util.Hand;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ColorHelper;
+import net.minecraft.util.shape.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+import static eu.midnightdust.midnightcontrols.client.MidnightControlsClient.reacharound;
+
+/**
+ * Outlines of the reach-around and touch targets, resolved once per tick and drawn every frame.
+ * <p>
+ * The outline colours are parsed again only when their configured value changes.
+ */
+public class BlockOutlines {
+    private static Outline reacharoundOutline = null;
+    private static Outline touchOutline = null;
+    private static String reacharoundColorHex = null;
+    private static int reacharoundColor = 0;
+    private static String touchColorHex = null;
+    private static int touchColor = 0;
+
+    /**
+     * Resolves the outlines of the current targets, called every tick.
+     *
+     * @param client the client instance
+     */
+    public static void tick(@NotNull MinecraftClient client) {
+        reacharoundOutline = computeReacharoundOutline(client);
+        touchOutline = computeTouchOutline(client);
+    }
+
+    /**
+     * Gets the outline of the reach-around placement.
+     *
+     * @return the outline, or null if there is none
+     */
+    public static @Nullable Outline getReacharoundOutline() {
+        return reacharoundOutline;
+    }
+
+    /**
+     * Gets the outline of the block targeted by touch.
+     *
+     * @param client the client instance
+     * @return the outline, or null if there is none
+     */
+    public static @Nullable Outline getTouchOutline(@NotNull MinecraftClient client) {
+        // The touch target changes with pointer events, between ticks.
+        if (touchOutline == null ? TouchInput.firstHitResult != null : touchOutline.source != TouchInput.firstHitResult)
+            touchOutline = computeTouchOutline(client);
+        return touchOutline;
+    }
+
+    public static int getReacharoundColor() {
+        if (MidnightControlsConfig.reacharoundOutlineColorHex.isEmpty())
+            return ColorHelper.withAlpha(MidnightControlsConfig.reacharoundOutlineColorAlpha, RainbowColor.radialRainbow(1, 1));
+        if (!Objects.equals(reacharoundColorHex, MidnightControlsConfig.reacharoundOutlineColorHex)) {
+            reacharoundColorHex = MidnightControlsConfig.reacharoundOutlineColorHex;
+            reacharoundColor = parseColor(reacharoundColorHex);
+        }
+        return ColorHelper.withAlpha(MidnightControlsConfig.reacharoundOutlineColorAlpha, reacharoundColor);
+    }
+
+    public static int getTouchColor() {
+        if (MidnightControlsConfig.touchOutlineColorHex.isEmpty())
+            return ColorHelper.withAlpha(MidnightControlsConfig.touchOutlineColorAlpha, RainbowColor.radialRainbow(1, 1));
+        if (!Objects.equals(touchColorHex, MidnightControlsConfig.touchOutlineColorHex)) {
+            touchColorHex = MidnightControlsConfig.touchOutlineColorHex;
+            touchColor = parseColor(touchColorHex);
+        }
+        return ColorHelper.withAlpha(MidnightControlsConfig.touchOutlineColorAlpha, touchColor);
+    }
+
+    private static int parseColor(String hex) {
+        try {
+            return Integer.parseInt(hex.startsWith("#") ? hex.substring(1) : hex, 16);
+        } catch (NumberFormatException e) {
+            return 0xFFFFFF;
+        }
+    }
+
+    private static @Nullable Outline computeReacharoundOutline(MinecraftClient client) {
+        if (client.world == null || client.player == null || !MidnightControlsConfig.shouldRenderReacharoundOutline)
+            return null;
+        var result = reacharound.getLastReacharoundResult();
+        if (result == null)
+            return null;
+        var blockPos = result.getBlockPos();
+        if (!client.world.getWorldBorder().contains(blockPos))
+            return null;
+        var stack = client.player.getStackInHand(Hand.MAIN_HAND);
+        if (stack == null || !(stack.getItem() instanceof BlockItem blockItem))
+            return null;
+
+        var block = blockItem.getBlock();
+        var placementResult = reacharound.withSideForReacharound(result, block);
+        var context = new ItemPlacementContext(new ItemUsageContext(client.player, Hand.MAIN_HAND, placementResult));
+        var placementState = block.getPlacementState(context);
+        if (placementState == null)
+            return null;
+        return new Outline(result, blockPos, placementState.getOutlineShape(client.world, blockPos, shapeContext(client)));
+    }
+
+    private static @Nullable Outline computeTouchOutline(MinecraftClient client) {
+        var source = TouchInput.firstHitResult;
+        if (client.world == null || client.player == null || !(source instanceof BlockHitResult result) || source.getType() != HitResult.Type.BLOCK)
+            return source == null ? null : new Outline(source, null, null);
+        var blockPos = result.getBlockPos();
+        if (!client.world.getWorldBorder().contains(blockPos))
+            return new Outline(source, null, null);
+        return new Outline(source, blockPos, client.world.getBlockState(blockPos).getOutlineShape(client.world, blockPos, shapeContext(client)));
+    }
+
+    private static ShapeContext shapeContext(MinecraftClient client) {
+        return client.getCameraEntity() == null ? ShapeContext.absent() : ShapeContext.of(client.getCameraEntity());
+    }
+
+    /**
+     * Represents the resolved outline of a target.
+     *
+     * @param source the hit result the outline was resolved from
+     * @param pos the position of the outlined block, or null if nothing is outlined
+     * @param shape the outline shape, or null if nothing is outlined
+     */
+    public record Outline(@NotNull HitResult source, @Nullable BlockPos pos, @Nullable VoxelShape shape) {
+        public boolean isVisible() {
+            return this.shape != null;
+        }
+    }
+}
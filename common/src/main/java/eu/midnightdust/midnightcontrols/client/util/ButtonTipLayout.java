@@ -0,0 +1,75 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import eu.midnightdust.midnightcontrols.client.controller.ButtonBinding;
+import eu.midnightdust.midnightcontrols.client.gui.MidnightControlsRenderer;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Positioned button tips of a screen, laid out once and drawn every frame from the stored entries.
+ * <p>
+ * The layout stays valid as long as the language and the buttons of its bindings are unchanged.
+ */
+public class ButtonTipLayout {
+    private final ButtonBinding[] bindings;
+    private final String language;
+    private final int bindingsHash;
+    private Tip[] tips = new Tip[0];
+
+    public ButtonTipLayout(@NotNull MinecraftClient client, @NotNull ButtonBinding... bindings) {
+        this.bindings = bindings;
+        this.language = client.getLanguageManager().getLanguage();
+        this.bindingsHash = hashBindings(bindings);
+    }
+
+    /**
+     * Returns whether this layout still matches the language and the bindings.
+     *
+     * @param client the client instance
+     * @return true if the layout is valid, else false
+     */
+    public boolean isValid(@NotNull MinecraftClient client) {
+        return Objects.equals(this.language, client.getLanguageManager().getLanguage()) && this.bindingsHash == hashBindings(this.bindings);
+    }
+
+    /**
+     * Adds the tip of a binding to this layout.
+     *
+     * @param client the client instance
+     * @param x the X position of the tip
+     * @param y the Y position of the tip
+     * @param binding the binding
+     * @return the X position of the end of the tip
+     */
+    public int add(@NotNull MinecraftClient client, int x, int y, @NotNull ButtonBinding binding) {
+        int[] buttons = binding.getButton().clone();
+        var text = TranslationCache.translate(binding.getTranslationKey());
+        int textX = x + MidnightControlsRenderer.getBindingIconWidth(buttons) + 2;
+        int textY = y + (MidnightControlsRenderer.ICON_SIZE / 2 - client.textRenderer.fontHeight / 2) + 1;
+        this.tips = Arrays.copyOf(this.tips, this.tips.length + 1);
+        this.tips[this.tips.length - 1] = new Tip(x, y, buttons, text, textX, textY);
+        // Matches the end position returned by a text drawn with a shadow.
+        return textX + TranslationCache.getWidth(client.textRenderer, binding.getTranslationKey()) + 1;
+    }
+
+    public void draw(@NotNull DrawContext context, @NotNull MinecraftClient client) {
+        for (var tip : this.tips) {
+            MidnightControlsRenderer.drawButton(context, tip.x, tip.y, tip.buttons, client);
+            context.drawTextWithShadow(client.textRenderer, tip.text, tip.textX, tip.textY, 14737632);
+        }
+    }
+
+    private static int hashBindings(ButtonBinding[] bindings) {
+        int hash = 1;
+        for (var binding : bindings)
+            hash = 31 * hash + Arrays.hashCode(binding.getButton());
+        return hash;
+    }
+
+    private record Tip(int x, int y, int[] buttons, String text, int textX, int textY) {
+    }
+}
@@ -0,0 +1,242 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.client.gui.Element;
+import net.minecraft.client.gui.ParentElement;
+import net.minecraft.client.gui.ScreenRect;
+import net.minecraft.client.gui.navigation.GuiNavigationPath;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.gui.widget.ClickableWidget;
+import net.minecraft.client.gui.widget.EntryListWidget;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.thinkingstudio.obsidianui.navigation.NavigationDirection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Directional focus navigation graph of the elements of a screen, built from their rectangles.
+ * <p>
+ * The screen and each container holding the focus, such as a list or one of its entries, get their own graph.
+ * The entries of a list are linked in their order, as their rectangles change while it scrolls.
+ * The neighbours are computed once per layout, so moving the focus is a table lookup per container level
+ * instead of a search through the whole widget tree.
+ */
+public class FocusGraph {
+    private static final int DIRECTIONS = 4;
+    private static final int UP = 0;
+    private static final int DOWN = 1;
+    private static final int RIGHT = 2;
+    private static final int LEFT = 3;
+    // Lists may recreate their entries, so the graphs of stale containers are dropped past this count.
+    private static final int MAX_NESTED = 256;
+
+    private final List<? extends Element> children;
+    private final int width;
+    private final int height;
+    private final boolean list;
+    private final Element[] elements;
+    private final ScreenRect[] rects;
+    private final int[] neighbours;
+    private final Reference2IntOpenHashMap<Element> indices = new Reference2IntOpenHashMap<>();
+    private final Reference2ObjectOpenHashMap<ParentElement, FocusGraph> nested = new Reference2ObjectOpenHashMap<>();
+
+    public FocusGraph(@NotNull Screen screen) {
+        this(screen, screen.width, screen.height);
+    }
+
+    private FocusGraph(@NotNull ParentElement container, int width, int height) {
+        this.children = container.children();
+        this.width = width;
+        this.height = height;
+        this.list = container instanceof EntryListWidget<?>;
+        this.elements = this.children.toArray(new Element[0]);
+        this.rects = new ScreenRect[this.elements.length];
+        this.indices.defaultReturnValue(-1);
+        for (int i = 0; i < this.elements.length; i++) {
+            this.rects[i] = this.list ? null : this.elements[i].getNavigationFocus();
+            this.indices.put(this.elements[i], i);
+        }
+
+        this.neighbours = new int[this.elements.length * DIRECTIONS];
+        for (int i = 0; i < this.elements.length; i++) {
+            for (int direction = 0; direction < DIRECTIONS; direction++)
+                this.neighbours[i * DIRECTIONS + direction] = this.list ? this.findEntry(i, direction) : this.findNeighbour(i, direction);
+        }
+    }
+
+    /**
+     * Returns whether this graph still describes the layout of the specified screen.
+     *
+     * @param screen the screen
+     * @return true if the layout did not change, else false
+     */
+    public boolean isValid(@NotNull Screen screen) {
+        return screen.width == this.width && screen.height == this.height && this.isValid((ParentElement) screen);
+    }
+
+    private boolean isValid(@NotNull ParentElement container) {
+        var children = container.children();
+        return children == this.children && children.size() == this.elements.length
+                && (this.elements.length == 0 || (children.get(0) == this.elements[0] && children.get(this.elements.length - 1) == this.elements[this.elements.length - 1]));
+    }
+
+    /**
+     * Returns whether the specified child of the container is still where it was when this graph was built.
+     */
+    private boolean isInPlace(int index) {
+        return this.list || this.elements[index].getNavigationFocus().equals(this.rects[index]);
+    }
+
+    /**
+     * Gets the graph of the specified container of the screen, rebuilding it if its layout changed.
+     */
+    private @NotNull FocusGraph getNested(@NotNull ParentElement container, @NotNull Element focused) {
+        var graph = this.nested.get(container);
+        if (graph != null && graph.isValid(container)) {
+            int index = graph.indices.getInt(focused);
+            if (index != -1 && graph.isInPlace(index))
+                return graph;
+        }
+        if (this.nested.size() >= MAX_NESTED) this.nested.clear();
+        graph = new FocusGraph(container, 0, 0);
+        this.nested.put(container, graph);
+        return graph;
+    }
+
+    /**
+     * Moves the focus of the screen to the neighbour of the focused element.
+     * <p>
+     * The neighbour is looked up in the innermost container holding the focus first,
+     * then in the outer ones when the focus is on the edge of a container.
+     *
+     * @param screen the screen
+     * @param direction the navigation direction
+     * @return true if the focus moved, or false if vanilla navigation should be used instead
+     */
+    public boolean navigate(@NotNull Screen screen, @NotNull NavigationDirection direction) {
+        int directionIndex = switch (direction) {
+            case UP -> UP;
+            case DOWN -> DOWN;
+            case RIGHT -> RIGHT;
+            case LEFT -> LEFT;
+            default -> -1;
+        };
+        if (directionIndex == -1) return false;
+
+        // The focus chain, from the focused child of the screen down to the focused leaf.
+        var chain = new ArrayList<Element>();
+        var focused = screen.getFocused();
+        while (focused != null) {
+            chain.add(focused);
+            focused = focused instanceof ParentElement parent ? parent.getFocused() : null;
+        }
+        // A container without a focused child handles the navigation itself.
+        if (chain.isEmpty() || chain.get(chain.size() - 1) instanceof ParentElement) return false;
+
+        for (int depth = chain.size() - 1; depth >= 0; depth--) {
+            var child = chain.get(depth);
+            var graph = depth == 0 ? this : this.getNested((ParentElement) chain.get(depth - 1), child);
+            int index = graph.indices.getInt(child);
+            // The focused element moved since the graph of the screen was built.
+            if (index == -1 || !graph.isInPlace(index)) return false;
+            // Without a rectangle, its neighbours are unknown, and the container handles the navigation itself.
+            if (!graph.list && (graph.rects[index].width() == 0 || graph.rects[index].height() == 0)) return false;
+            // Moving between the entries of a list keeps the column of the focused widget.
+            int hint = depth + 1 < chain.size() && child instanceof ParentElement parent ? parent.children().indexOf(chain.get(depth + 1)) : -1;
+            int target = graph.neighbours[index * DIRECTIONS + directionIndex];
+            while (target != -1) {
+                var parents = new ArrayList<ParentElement>(depth + 2);
+                parents.add(screen);
+                for (int i = 0; i < depth; i++)
+                    parents.add((ParentElement) chain.get(i));
+                var leaf = findLeaf(graph.elements[target], directionIndex, hint, parents);
+                if (leaf != null) {
+                    ((ScreenAccessor) screen).midnightcontrols$switchFocus(GuiNavigationPath.of(leaf, parents.toArray(new ParentElement[0])));
+                    return true;
+                }
+                // Skips the neighbours without anything to focus, such as list headers.
+                target = graph.neighbours[target * DIRECTIONS + directionIndex];
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the leaf to focus in the specified element, descending into the containers.
+     *
+     * @param element the element receiving the focus
+     * @param direction the direction index
+     * @param hint the index of the child to try first, or -1
+     * @param parents the containers of the element, completed with the ones descended into
+     * @return the leaf, or null if the element holds no navigable leaf
+     */
+    private static @Nullable Element findLeaf(@NotNull Element element, int direction, int hint, @NotNull List<ParentElement> parents) {
+        if (!(element instanceof ParentElement container))
+            return isNavigable(element) ? element : null;
+        if (container instanceof ClickableWidget widget && !(widget.visible && widget.active))
+            return null;
+        var children = container.children();
+        if (children.isEmpty()) return null;
+
+        parents.add(container);
+        if (hint >= 0) {
+            var leaf = findLeaf(children.get(Math.min(hint, children.size() - 1)), direction, -1, parents);
+            if (leaf != null) return leaf;
+        }
+        // Entering a container from below or from the right starts from its end.
+        boolean backwards = direction == UP || direction == LEFT;
+        for (int i = 0; i < children.size(); i++) {
+            var leaf = findLeaf(children.get(backwards ? children.size() - 1 - i : i), direction, -1, parents);
+            if (leaf != null) return leaf;
+        }
+        parents.remove(parents.size() - 1);
+        return null;
+    }
+
+    private int findEntry(int index, int direction) {
+        return switch (direction) {
+            case UP -> index - 1;
+            case DOWN -> index + 1 < this.elements.length ? index + 1 : -1;
+            default -> -1;
+        };
+    }
+
+    private int findNeighbour(int index, int direction) {
+        var from = this.rects[index];
+        long fromX = from.getLeft() * 2L + from.width();
+        long fromY = from.getTop() * 2L + from.height();
+
+        int best = -1;
+        long bestScore = Long.MAX_VALUE;
+        for (int i = 0; i < this.elements.length; i++) {
+            var to = this.rects[i];
+            if (i == index || to.width() == 0 || to.height() == 0) continue;
+            boolean inDirection = switch (direction) {
+                case UP -> to.getBottom() <= from.getTop();
+                case DOWN -> to.getTop() >= from.getBottom();
+                case RIGHT -> to.getLeft() >= from.getRight();
+                default -> to.getRight() <= from.getLeft();
+            };
+            if (!inDirection) continue;
+
+            // Doubled centre coordinates, the offset across the direction weighs twice as much as along it.
+            long deltaX = to.getLeft() * 2L + to.width() - fromX;
+            long deltaY = to.getTop() * 2L + to.height() - fromY;
+            if (direction < 2) deltaX *= 2;
+            else deltaY *= 2;
+            long score = deltaX * deltaX + deltaY * deltaY;
+            if (score < bestScore) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private static boolean isNavigable(Element element) {
+        return !(element instanceof ClickableWidget widget) || (widget.visible && widget.active);
+    }
+}
@@ -51,4 +51,11 @@ public interface HandledScreenAccessor {
      * @param actionType the action type
      */
     void midnightcontrols$onMouseClick(@Nullable Slot slot, int slotId, int clickData, SlotActionType actionType);
+
+    /**
+     * Gets the spatial index of the slots, rebuilt when the screen is initialized or its slot list changes.
+     *
+     * @return the slot index
+     */
+    SlotGrid midnightcontrols$getSlotGrid();
 }
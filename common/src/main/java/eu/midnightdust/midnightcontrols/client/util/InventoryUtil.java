@@ -3,65 +3,29 @@ package eu.midnightdust.midnightcontrols.client.util;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.screen.slot.Slot;
-import org.aperlambda.lambdacommon.utils.Pair;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Comparator;
 import java.util.Optional;
-import java.util.function.Predicate;
 
 import static eu.midnightdust.midnightcontrols.client.MidnightControlsClient.client;
 import static eu.midnightdust.midnightcontrols.client.MidnightControlsClient.input;
 
 public class InventoryUtil {
-    // Finds the closest slot in the GUI within 14 pixels.
+    // Finds the closest slot in the GUI in the specified direction, using the precomputed neighbours of the hovered slot.
     public static Optional<Slot> findClosestSlot(HandledScreen<?> inventory, int direction) {
         var accessor = (HandledScreenAccessor) inventory;
         int guiLeft = accessor.getX();
         int guiTop = accessor.getY();
         double mouseX = client.mouse.getX() * (double) client.getWindow().getScaledWidth() / (double) client.getWindow().getWidth();
         double mouseY = client.mouse.getY() * (double) client.getWindow().getScaledHeight() / (double) client.getWindow().getHeight();
+        var grid = accessor.midnightcontrols$getSlotGrid();
         // Finds the hovered slot.
         var mouseSlot = accessor.midnightcontrols$getSlotAt(mouseX, mouseY);
-        return inventory.getScreenHandler().slots.parallelStream()
-                .filter(Predicate.isEqual(mouseSlot).negate())
-                .map(slot -> {
-                    int posX = guiLeft + slot.x + 8;
-                    int posY = guiTop + slot.y + 8;
+        int mouseIndex = mouseSlot == null ? -1 : grid.indexOf(mouseSlot);
 
-                    int otherPosX = (int) mouseX;
-                    int otherPosY = (int) mouseY;
-                    if (mouseSlot != null) {
-                        otherPosX = guiLeft + mouseSlot.x + 8;
-                        otherPosY = guiTop + mouseSlot.y + 8;
-                    }
-
-                    // Distance between the slot and the cursor.
-                    double distance = Math.sqrt(Math.pow(posX - otherPosX, 2) + Math.pow(posY - otherPosY, 2));
-                    return Pair.of(slot, distance);
-                }).filter(entry -> {
-                    var slot = entry.key;
-                    int posX = guiLeft + slot.x + 8;
-                    int posY = guiTop + slot.y + 8;
-                    int otherPosX = (int) mouseX;
-                    int otherPosY = (int) mouseY;
-                    if (mouseSlot != null) {
-                        otherPosX = guiLeft + mouseSlot.x + 8;
-                        otherPosY = guiTop + mouseSlot.y + 8;
-                    }
-                    if (direction == 0)
-                        return posY < otherPosY;
-                    else if (direction == 1)
-                        return posY > otherPosY;
-                    else if (direction == 2)
-                        return posX > otherPosX;
-                    else if (direction == 3)
-                        return posX < otherPosX;
-                    else
-                        return false;
-                })
-                .min(Comparator.comparingDouble(p -> p.value))
-                .map(p -> p.key);
+        int closest = mouseIndex != -1 ? grid.getNeighbour(mouseIndex, direction)
+                : grid.findClosestInDirection((int) mouseX - guiLeft, (int) mouseY - guiTop, direction, -1);
+        return closest == -1 ? Optional.empty() : Optional.of(grid.getSlot(closest));
     }
 
     private static int targetMouseX = 0;
@@ -78,19 +42,11 @@ public class InventoryUtil {
             int mouseY = (int) (targetMouseY * (double) client.getWindow().getScaledHeight() / (double) client.getWindow().getHeight());
 
             // Finds the closest slot in the GUI within 14 pixels.
-            Optional<net.minecraft.util.Pair<Slot, Double>> closestSlot = inventoryScreen.getScreenHandler().slots.parallelStream()
-                    .map(slot -> {
-                        int x = guiLeft + slot.x + 8;
-                        int y = guiTop + slot.y + 8;
-
-                        // Distance between the slot and the cursor.
-                        double distance = Math.sqrt(Math.pow(x - mouseX, 2) + Math.pow(y - mouseY, 2));
-                        return new net.minecraft.util.Pair<>(slot, distance);
-                    }).filter(entry -> entry.getRight() <= 14.0)
-                    .min(Comparator.comparingDouble(net.minecraft.util.Pair::getRight));
+            var grid = accessor.midnightcontrols$getSlotGrid();
+            int closestSlot = grid.findClosest(mouseX - guiLeft, mouseY - guiTop, 14);
 
-            if (closestSlot.isPresent() && client.player != null) {
-                var slot = closestSlot.get().getLeft();
+            if (closestSlot != -1 && client.player != null) {
+                var slot = grid.getSlot(closestSlot);
                 if (slot.hasStack() || !client.player.getInventory().getMainHandStack().isEmpty()) {
                     int slotCenterXScaled = guiLeft + slot.x + 8;
                     int slotCenterYScaled = guiTop + slot.y + 8;
@@ -0,0 +1,140 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+/**
+ * Selection of one of N sectors around a centre from a stick or a pointer offset, with the positions of the sector elements.
+ * <p>
+ * Sector 0 is centred straight up and the next sectors follow clockwise on screen.
+ * Selecting looks the sector up in a table indexed by the diamond angle of the offset, which only takes a division, instead of an {@code atan2}.
+ * The element positions are computed once per centre and size.
+ */
+public class RadialSelector {
+    private static final int LUT_SIZE = 1024;
+
+    private final int sectors;
+    private final int[] lut = new int[LUT_SIZE];
+    private final float[] directionX;
+    private final float[] directionY;
+    private final int[] xs;
+    private final int[] ys;
+    private int centerX = Integer.MIN_VALUE;
+    private int centerY = Integer.MIN_VALUE;
+    private int radius = -1;
+    private int elementSize = -1;
+
+    public RadialSelector(int sectors) {
+        this.sectors = sectors;
+        this.directionX = new float[sectors];
+        this.directionY = new float[sectors];
+        this.xs = new int[sectors];
+        this.ys = new int[sectors];
+
+        double sectorAngle = 2 * Math.PI / sectors;
+        for (int i = 0; i < LUT_SIZE; i++) {
+            double diamond = (i + 0.5) * 4.0 / LUT_SIZE;
+            double x, y;
+            if (diamond < 1) { x = 1 - diamond; y = diamond; }
+            else if (diamond < 2) { x = 1 - diamond; y = 2 - diamond; }
+            else if (diamond < 3) { x = diamond - 3; y = 2 - diamond; }
+            else { x = diamond - 3; y = diamond - 4; }
+            // Clockwise angle from straight up, the Y axis pointing down.
+            double angle = Math.atan2(x, -y);
+            if (angle < 0) angle += 2 * Math.PI;
+            this.lut[i] = (int) ((angle + sectorAngle / 2) / sectorAngle) % sectors;
+        }
+        for (int i = 0; i < sectors; i++) {
+            double x = Math.sin(i * sectorAngle), y = -Math.cos(i * sectorAngle);
+            // Scaled onto a square, so 8 sectors fall on the cells around the centre of a 3x3 grid.
+            double scale = Math.max(Math.abs(x), Math.abs(y));
+            this.directionX[i] = (float) (x / scale);
+            this.directionY[i] = (float) (y / scale);
+        }
+    }
+
+    public int getSectors() {
+        return this.sectors;
+    }
+
+    /**
+     * Selects the sector pointed by the specified offset from the centre.
+     *
+     * @param x the X offset, pointing right
+     * @param y the Y offset, pointing down
+     * @param deadZone the distance from the centre under which nothing is selected
+     * @return the selected sector, or -1 if the offset is in the dead zone
+     */
+    public int select(float x, float y, float deadZone) {
+        if (x * x + y * y < deadZone * deadZone || (x == 0 && y == 0))
+            return -1;
+        float diamond;
+        if (y >= 0) diamond = x >= 0 ? y / (x + y) : 1 - x / (-x + y);
+        else diamond = x < 0 ? 2 - y / (-x - y) : 3 + x / (x - y);
+        return this.lut[Math.min((int) (diamond * (LUT_SIZE / 4)), LUT_SIZE - 1)];
+    }
+
+    /**
+     * Gets the element under the specified point, as laid out by the last layout.
+     * <p>
+     * Only the element of the pointed sector and the ones of its two neighbours are tested,
+     * as an element may extend past its sector but not past the neighbouring ones.
+     *
+     * @param x the X position of the point
+     * @param y the Y position of the point
+     * @return the sector of the element under the point, or -1 if there is none
+     */
+    public int hit(int x, int y) {
+        int sector = this.select(x - this.centerX, y - this.centerY, 0.f);
+        if (sector == -1)
+            return -1;
+        for (int i = 0; i < 3; i++) {
+            // The pointed sector first, then the previous and the next one.
+            int candidate = Math.floorMod(sector + (i == 2 ? 1 : -i), this.sectors);
+            if (x >= this.xs[candidate] && y >= this.ys[candidate]
+                    && x <= this.xs[candidate] + this.elementSize && y <= this.ys[candidate] + this.elementSize)
+                return candidate;
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the positions of the sector elements, only if the centre or the size changed.
+     *
+     * @param centerX the X position of the centre
+     * @param centerY the Y position of the centre
+     * @param radius the distance of the element centres from the centre, along the axes
+     * @param elementSize the size of an element
+     */
+    public void layout(int centerX, int centerY, int radius, int elementSize) {
+        if (this.centerX == centerX && this.centerY == centerY && this.radius == radius && this.elementSize == elementSize)
+            return;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.radius = radius;
+        this.elementSize = elementSize;
+        for (int i = 0; i < this.sectors; i++) {
+            this.xs[i] = centerX + Math.round(this.directionX[i] * radius) - elementSize / 2;
+            this.ys[i] = centerY + Math.round(this.directionY[i] * radius) - elementSize / 2;
+        }
+    }
+
+    /**
+     * Gets the X position of the element of the specified sector, as computed by the last layout.
+     */
+    public int getX(int sector) {
+        return this.xs[sector];
+    }
+
+    /**
+     * Gets the Y position of the element of the specified sector, as computed by the last layout.
+     */
+    public int getY(int sector) {
+        return this.ys[sector];
+    }
+
+    public float getDirectionX(int sector) {
+        return this.directionX[sector];
+    }
+
+    public float getDirectionY(int sector) {
+        return this.directionY[sector];
+    }
+}
@@ -1,15 +1,59 @@
 package eu.midnightdust.midnightcontrols.client.util;
 
-import java.awt.*;
+import net.minecraft.util.math.ColorHelper;
 
+/**
+ * Animated rainbow colour, generated as packed ARGB from a precomputed table of fully saturated hues.
+ */
 public class RainbowColor {
+    private static final int HUE_STEPS = 256;
+    private static final int[] HUES = new int[HUE_STEPS];
     public static float hue;
+
+    static {
+        for (int i = 0; i < HUE_STEPS; i++)
+            HUES[i] = hsbToArgb((float) i / HUE_STEPS);
+    }
+
     public static void tick() {
         if (hue > 1) hue = 0f;
         hue = hue + 0.01f;
     }
 
-    public static Color radialRainbow(float saturation, float brightness) {
-        return Color.getHSBColor(hue, saturation, brightness);
+    /**
+     * Gets the current colour of the rainbow.
+     *
+     * @param saturation the saturation, between 0 and 1
+     * @param brightness the brightness, between 0 and 1
+     * @return the packed opaque ARGB colour
+     */
+    public static int radialRainbow(float saturation, float brightness) {
+        int color = HUES[(int) ((hue - (float) Math.floor(hue)) * HUE_STEPS) & (HUE_STEPS - 1)];
+        if (saturation == 1f && brightness == 1f)
+            return color;
+        return ColorHelper.getArgb(255, scale(ColorHelper.getRed(color), saturation, brightness),
+                scale(ColorHelper.getGreen(color), saturation, brightness), scale(ColorHelper.getBlue(color), saturation, brightness));
+    }
+
+    private static int scale(int component, float saturation, float brightness) {
+        // Desaturating blends the pure hue towards white, before scaling by the brightness.
+        return (int) ((255f - saturation * (255 - component)) * brightness + 0.5f);
+    }
+
+    private static int hsbToArgb(float hue) {
+        float h = hue * 6f;
+        int sector = (int) h;
+        float f = h - sector;
+        float rising = f, falling = 1f - f;
+        float r, g, b;
+        switch (sector) {
+            case 0 -> { r = 1f; g = rising; b = 0f; }
+            case 1 -> { r = falling; g = 1f; b = 0f; }
+            case 2 -> { r = 0f; g = 1f; b = rising; }
+            case 3 -> { r = 0f; g = falling; b = 1f; }
+            case 4 -> { r = rising; g = 0f; b = 1f; }
+            default -> { r = 1f; g = 0f; b = falling; }
+        }
+        return ColorHelper.getArgb(255, (int) (r * 255f + 0.5f), (int) (g * 255f + 0.5f), (int) (b * 255f + 0.5f));
     }
 }
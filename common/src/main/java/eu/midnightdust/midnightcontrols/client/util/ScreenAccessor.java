@@ -0,0 +1,37 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import net.minecraft.client.gui.navigation.GuiNavigationPath;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents an accessor to Screen.
+ */
+public interface ScreenAccessor {
+    /**
+     * Switches the focus to the specified navigation path.
+     *
+     * @param path the new focus path
+     */
+    void midnightcontrols$switchFocus(GuiNavigationPath path);
+
+    /**
+     * Gets the focus navigation graph of the screen, rebuilt when its layout changes.
+     *
+     * @return the focus graph, or null if the screen is not navigated through it
+     */
+    @Nullable FocusGraph midnightcontrols$getFocusGraph();
+
+    /**
+     * Gets the index of the widgets serving the semantic actions of the screen, rebuilt when the screen is initialized.
+     *
+     * @return the screen actions
+     */
+    ScreenActions midnightcontrols$getScreenActions();
+
+    /**
+     * Gets the index of the scrollable elements of the screen, rebuilt when the screen is initialized.
+     *
+     * @return the scroll targets
+     */
+    ScrollTargets midnightcontrols$getScrollTargets();
+}
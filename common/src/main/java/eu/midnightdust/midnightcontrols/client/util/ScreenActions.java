@@ -0,0 +1,104 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import eu.midnightdust.midnightcontrols.client.mixin.AdvancementsScreenAccessor;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.gui.screen.advancement.AdvancementTab;
+import net.minecraft.client.gui.widget.PressableWidget;
+import net.minecraft.client.gui.widget.TabNavigationWidget;
+import net.minecraft.text.TranslatableTextContent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index of the widgets serving the semantic actions of a screen, built when the screen is initialized.
+ */
+public class ScreenActions {
+    private static final Set<String> BACK_KEYS = Set.of("gui.back", "gui.done", "gui.cancel", "gui.toTitle", "gui.toMenu");
+
+    private final @Nullable PressableWidget back;
+    private final @Nullable PressableWidget previousPage;
+    private final @Nullable PressableWidget nextPage;
+    private final @Nullable TabNavigationWidget tabNavigation;
+    private final List<AdvancementTab> advancementTabs = new ArrayList<>();
+    private final Reference2IntOpenHashMap<AdvancementTab> advancementTabIndices = new Reference2IntOpenHashMap<>();
+    private int advancementTabCount = -1;
+
+    public ScreenActions(@NotNull Screen screen) {
+        PressableWidget back = null, previousPage = null, nextPage = null;
+        TabNavigationWidget tabNavigation = null;
+        for (var element : screen.children()) {
+            if (element instanceof PressableWidget widget && widget.getMessage() != null && widget.getMessage().getContent() != null) {
+                if (back == null && widget.getMessage().getContent() instanceof TranslatableTextContent translatableText && BACK_KEYS.contains(translatableText.getKey()))
+                    back = widget;
+                String message = widget.getMessage().getString();
+                if (previousPage == null && message.equals("<")) previousPage = widget;
+                else if (nextPage == null && message.equals(">")) nextPage = widget;
+            } else if (tabNavigation == null && element instanceof TabNavigationWidget widget) {
+                tabNavigation = widget;
+            }
+        }
+        this.back = back;
+        this.previousPage = previousPage;
+        this.nextPage = nextPage;
+        this.tabNavigation = tabNavigation;
+        this.advancementTabIndices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Gets the button going back to the previous screen.
+     *
+     * @return the back button if present, else null
+     */
+    public @Nullable PressableWidget getBack() {
+        return this.back;
+    }
+
+    /**
+     * Gets the button switching to the previous or next page.
+     *
+     * @param next true for the next page, else false
+     * @return the page button if present, else null
+     */
+    public @Nullable PressableWidget getPage(boolean next) {
+        return next ? this.nextPage : this.previousPage;
+    }
+
+    /**
+     * Gets the tab navigation widget of the screen.
+     *
+     * @return the tab navigation if present, else null
+     */
+    public @Nullable TabNavigationWidget getTabNavigation() {
+        return this.tabNavigation;
+    }
+
+    /**
+     * Gets the advancement tab next to the specified tab, cycling through the tabs.
+     * The tabs are loaded after the screen opens, so they are re-indexed whenever their count changes.
+     *
+     * @param screen the advancements screen
+     * @param tab the current tab
+     * @param next true for the next tab, else false
+     * @return the adjacent tab, or null if the current tab is unknown
+     */
+    public @Nullable AdvancementTab getAdjacentAdvancementTab(@NotNull AdvancementsScreenAccessor screen, @NotNull AdvancementTab tab, boolean next) {
+        var tabs = screen.getTabs();
+        if (tabs.size() != this.advancementTabCount) {
+            this.advancementTabCount = tabs.size();
+            this.advancementTabs.clear();
+            this.advancementTabIndices.clear();
+            for (var value : tabs.values()) {
+                if (this.advancementTabIndices.putIfAbsent(value, this.advancementTabs.size()) == -1)
+                    this.advancementTabs.add(value);
+            }
+        }
+        int index = this.advancementTabIndices.getInt(tab);
+        if (index == -1) return null;
+        return this.advancementTabs.get(Math.floorMod(index + (next ? 1 : -1), this.advancementTabs.size()));
+    }
+}
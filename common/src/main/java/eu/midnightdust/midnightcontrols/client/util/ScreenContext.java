@@ -0,0 +1,114 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import eu.midnightdust.lib.util.PlatformFunctions;
+import eu.midnightdust.midnightcontrols.client.MidnightControlsConfig;
+import eu.midnightdust.midnightcontrols.client.compat.EmotecraftCompat;
+import eu.midnightdust.midnightcontrols.client.compat.MidnightControlsCompat;
+import eu.midnightdust.midnightcontrols.client.gui.RingScreen;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.gui.screen.ingame.CreativeInventoryScreen;
+import net.minecraft.client.gui.screen.ingame.HandledScreen;
+import org.jetbrains.annotations.Nullable;
+import org.thinkingstudio.obsidianui.screen.SpruceScreen;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the facts about a screen that the input handling needs, computed once per screen change.
+ * <p>
+ * The facts derived from the screen class are memoised per class, and recomputed when the screen lists of the config change.
+ *
+ * @param screen the screen
+ * @param mouseOnly true if the screen is listed in the mouse screens
+ * @param arrowNav true if the screen is listed in the arrow screens
+ * @param wasdNav true if the screen is listed in the WASD screens
+ * @param handled true if the screen is a handled screen
+ * @param creative true if the screen is the creative inventory
+ * @param ring true if the screen is the ring
+ * @param emoteWheel true if the screen is the Emotecraft emote wheel
+ * @param alwaysNavigable true if the focus of the screen can always be changed, even when it is not interactive
+ * @param compatOwned true if a compatibility handler requires the mouse on the screen
+ */
+public record ScreenContext(@Nullable Screen screen, boolean mouseOnly, boolean arrowNav, boolean wasdNav, boolean handled,
+                            boolean creative, boolean ring, boolean emoteWheel, boolean alwaysNavigable, boolean compatOwned) {
+    public static final ScreenContext NONE = new ScreenContext(null, false, false, false, false, false, false, false, false, false);
+    private static ClassValue<ScreenContext> classContexts = createClassContexts();
+    private static int configHash = configHash();
+    private static volatile ScreenContext current = NONE;
+
+    /**
+     * Updates the current context, called when a screen is set.
+     *
+     * @param screen the new screen
+     */
+    public static void update(@Nullable Screen screen) {
+        int hash = configHash();
+        if (hash != configHash) {
+            configHash = hash;
+            classContexts = createClassContexts();
+        }
+        current = compute(screen);
+    }
+
+    /**
+     * Gets the context of the specified screen, which is the current context unless the screen changed without being set.
+     *
+     * @param screen the screen
+     * @return the screen context
+     */
+    public static ScreenContext of(@Nullable Screen screen) {
+        var context = current;
+        if (context.screen != screen) current = context = compute(screen);
+        return context;
+    }
+
+    /**
+     * Returns whether the screen is navigated through its focus instead of the mouse.
+     *
+     * @return true if the screen is interactive, else false
+     */
+    public boolean interactive() {
+        return !(this.handled || this.mouseOnly || this.compatOwned || MidnightControlsConfig.joystickAsMouse
+                || (this.screen instanceof SpruceScreen spruceScreen && spruceScreen.requiresCursor()));
+    }
+
+    /**
+     * Returns whether the screen is a radial menu, selected with the sticks.
+     *
+     * @return true if the screen is the ring or the emote wheel, else false
+     */
+    public boolean radialMenu() {
+        return this.ring || this.emoteWheel;
+    }
+
+    private static ScreenContext compute(@Nullable Screen screen) {
+        if (screen == null) return NONE;
+        var context = classContexts.get(screen.getClass());
+        return new ScreenContext(screen, context.mouseOnly, context.arrowNav, context.wasdNav, context.handled,
+                context.creative, context.ring, context.emoteWheel, context.alwaysNavigable, MidnightControlsCompat.requireMouseOnScreen(screen));
+    }
+
+    private static ClassValue<ScreenContext> createClassContexts() {
+        return new ClassValue<>() {
+            @Override
+            protected ScreenContext computeValue(Class<?> type) {
+                String name = type.toString();
+                String canonicalName = type.getCanonicalName();
+                return new ScreenContext(null,
+                        MidnightControlsConfig.mouseScreens.stream().anyMatch(name::contains),
+                        canonicalName != null && MidnightControlsConfig.arrowScreens.contains(canonicalName),
+                        canonicalName != null && MidnightControlsConfig.wasdScreens.contains(canonicalName),
+                        HandledScreen.class.isAssignableFrom(type),
+                        CreativeInventoryScreen.class.isAssignableFrom(type),
+                        RingScreen.class.isAssignableFrom(type),
+                        PlatformFunctions.isModLoaded("emotecraft") && EmotecraftCompat.isEmotecraftScreen(type),
+                        canonicalName != null && canonicalName.contains("me.jellysquid.mods.sodium.client.gui"),
+                        false);
+            }
+        };
+    }
+
+    private static int configHash() {
+        return Objects.hash(MidnightControlsConfig.mouseScreens, MidnightControlsConfig.arrowScreens, MidnightControlsConfig.wasdScreens);
+    }
+}
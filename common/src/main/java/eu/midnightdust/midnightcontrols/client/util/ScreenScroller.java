@@ -0,0 +1,84 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.Screen;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Analog scrolling of screens with the right stick.
+ * <p>
+ * The stick samples set a scroll velocity which is applied once per frame from the measured frame time,
+ * to the scroll target found under the focus or the mouse, along the axes that target scrolls.
+ * The scrolling accelerates while the stick is held.
+ */
+public class ScreenScroller {
+    // The scroll steps were formerly applied per camera tick, which runs 1000 times a second.
+    private static final double SCROLL_RATE = 0.0175 * 1000;
+    private static final double PAN_RATE_X = 1.0 * 1000;
+    private static final double PAN_RATE_Y = 5.0 * 1000;
+    private static final double MAX_ACCELERATION = 3.0;
+    private static final double ACCELERATION_TIME = 1_000_000_000.0;
+    // Samples older than this are ignored, so a stick that stops emitting can never keep scrolling.
+    private static final long STALE_TIME = 200_000_000L;
+    private static final long MAX_FRAME_TIME = 100_000_000L;
+
+    private volatile int orientation = ScrollTargets.VERTICAL;
+    private double velocityX = 0.0;
+    private double velocityY = 0.0;
+    private long velocityXTime = 0L;
+    private long velocityYTime = 0L;
+    private long holdStart = 0L;
+    private long lastFrameTime = 0L;
+
+    /**
+     * Sets the scroll velocity requested by a stick axis.
+     *
+     * @param horizontal true if the axis is horizontal, else false
+     * @param value the axis value, 0 in the dead zone
+     * @param time the sample time, in nanoseconds
+     * @return true if the current scroll target scrolls along that axis, else false
+     */
+    public synchronized boolean push(boolean horizontal, float value, long time) {
+        if (horizontal) {
+            this.velocityX = value;
+            this.velocityXTime = time;
+        } else {
+            this.velocityY = value;
+            this.velocityYTime = time;
+        }
+        return (this.orientation & (horizontal ? ScrollTargets.HORIZONTAL : ScrollTargets.VERTICAL)) != 0;
+    }
+
+    /**
+     * Scrolls the current scroll target of the screen by the distance travelled since the last frame.
+     *
+     * @param client the client instance
+     * @param screen the screen
+     * @param time the frame time, in nanoseconds
+     */
+    public synchronized void update(@NotNull MinecraftClient client, @NotNull Screen screen, long time) {
+        long frameTime = this.lastFrameTime == 0L ? 0L : Math.min(time - this.lastFrameTime, MAX_FRAME_TIME);
+        this.lastFrameTime = time;
+
+        double mouseX = client.mouse.getX() * (double) client.getWindow().getScaledWidth() / (double) client.getWindow().getWidth();
+        double mouseY = client.mouse.getY() * (double) client.getWindow().getScaledHeight() / (double) client.getWindow().getHeight();
+        var target = ((ScreenAccessor) screen).midnightcontrols$getScrollTargets().find(mouseX, mouseY);
+        this.orientation = target.orientation();
+
+        double x = target.scrolls(ScrollTargets.HORIZONTAL) && time - this.velocityXTime <= STALE_TIME ? this.velocityX : 0.0;
+        double y = target.scrolls(ScrollTargets.VERTICAL) && time - this.velocityYTime <= STALE_TIME ? this.velocityY : 0.0;
+        if (x == 0.0 && y == 0.0) {
+            this.holdStart = 0L;
+            return;
+        }
+        if (this.holdStart == 0L) this.holdStart = time;
+
+        double acceleration = 1.0 + (MAX_ACCELERATION - 1.0) * Math.min((time - this.holdStart) / ACCELERATION_TIME, 1.0);
+        double seconds = frameTime / 1_000_000_000.0 * acceleration;
+        if (seconds == 0.0) return;
+        if (target.kind() == ScrollTargets.Kind.ADVANCEMENTS)
+            target.scroll(screen, mouseX, mouseY, -x * PAN_RATE_X * seconds, -y * PAN_RATE_Y * seconds);
+        else
+            target.scroll(screen, mouseX, mouseY, -x * SCROLL_RATE * seconds, -y * SCROLL_RATE * seconds);
+    }
+}
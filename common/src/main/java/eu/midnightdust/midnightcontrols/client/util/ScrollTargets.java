@@ -0,0 +1,117 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import eu.midnightdust.midnightcontrols.client.mixin.AdvancementsScreenAccessor;
+import eu.midnightdust.midnightcontrols.client.mixin.CreativeInventoryScreenAccessor;
+import net.minecraft.client.gui.Element;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.gui.screen.advancement.AdvancementsScreen;
+import net.minecraft.client.gui.screen.ingame.CreativeInventoryScreen;
+import net.minecraft.client.gui.widget.EntryListWidget;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.thinkingstudio.obsidianui.widget.AbstractSpruceWidget;
+import org.thinkingstudio.obsidianui.widget.container.SpruceEntryListWidget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index of the scrollable elements of a screen with their rectangles and orientation, built when the screen is initialized.
+ */
+public class ScrollTargets {
+    public static final int HORIZONTAL = 1;
+    public static final int VERTICAL = 2;
+
+    private final List<Target> lists = new ArrayList<>();
+    private final Target screenTarget;
+
+    public ScrollTargets(@NotNull Screen screen) {
+        for (var element : screen.children()) {
+            if (element instanceof SpruceEntryListWidget<?> list)
+                this.lists.add(new Target(Kind.LIST, list, list.getX(), list.getY(), list.getWidth(), list.getHeight(), VERTICAL));
+            else if (element instanceof EntryListWidget<?> list)
+                this.lists.add(new Target(Kind.LIST, list, list.getX(), list.getY(), list.getWidth(), list.getHeight(), VERTICAL));
+        }
+        if (screen instanceof AdvancementsScreen)
+            this.screenTarget = new Target(Kind.ADVANCEMENTS, null, 0, 0, screen.width, screen.height, HORIZONTAL | VERTICAL);
+        else if (screen instanceof CreativeInventoryScreen)
+            this.screenTarget = new Target(Kind.CREATIVE, null, 0, 0, screen.width, screen.height, VERTICAL);
+        else
+            this.screenTarget = new Target(Kind.SCREEN, null, 0, 0, screen.width, screen.height, VERTICAL);
+    }
+
+    /**
+     * Finds the element to scroll: the focused list, else the hovered list, else the screen itself.
+     *
+     * @param mouseX the X position of the mouse, scaled
+     * @param mouseY the Y position of the mouse, scaled
+     * @return the scroll target
+     */
+    public @NotNull Target find(double mouseX, double mouseY) {
+        for (var target : this.lists) {
+            if (target.element instanceof AbstractSpruceWidget widget ? widget.isFocusedOrHovered() : target.element.isFocused())
+                return target;
+        }
+        for (var target : this.lists) {
+            if (target.contains(mouseX, mouseY))
+                return target;
+        }
+        return this.screenTarget;
+    }
+
+    /**
+     * Represents a scrollable element.
+     *
+     * @param kind the way the element is scrolled
+     * @param element the list element, or null if the screen itself is scrolled
+     * @param x the X position of the element, scaled
+     * @param y the Y position of the element, scaled
+     * @param width the width of the element, scaled
+     * @param height the height of the element, scaled
+     * @param orientation the scrolling axes, a combination of {@link #HORIZONTAL} and {@link #VERTICAL}
+     */
+    public record Target(Kind kind, @Nullable Element element, int x, int y, int width, int height, int orientation) {
+        public boolean contains(double mouseX, double mouseY) {
+            return mouseX >= this.x && mouseY >= this.y && mouseX < this.x + this.width && mouseY < this.y + this.height;
+        }
+
+        public boolean scrolls(int orientation) {
+            return (this.orientation & orientation) != 0;
+        }
+
+        /**
+         * Scrolls this target.
+         *
+         * @param screen the screen of the target
+         * @param mouseX the X position of the mouse, scaled
+         * @param mouseY the Y position of the mouse, scaled
+         * @param horizontal the horizontal amount, in scroll steps or pixels for panned screens
+         * @param vertical the vertical amount, in scroll steps or pixels for panned screens
+         */
+        public void scroll(@NotNull Screen screen, double mouseX, double mouseY, double horizontal, double vertical) {
+            switch (this.kind) {
+                case LIST -> this.element.mouseScrolled(this.x + this.width / 2.0, this.y + this.height / 2.0, 0.0, vertical);
+                case CREATIVE -> {
+                    if (((CreativeInventoryScreenAccessor) screen).midnightcontrols$hasScrollbar())
+                        screen.mouseScrolled(mouseX, mouseY, 0.0, vertical);
+                }
+                case ADVANCEMENTS -> {
+                    var tab = ((AdvancementsScreenAccessor) screen).getSelectedTab();
+                    if (tab != null) tab.move(horizontal, vertical);
+                }
+                case SCREEN -> {
+                    try {
+                        screen.mouseScrolled(mouseX, mouseY, 0.0, vertical);
+                    } catch (NullPointerException ignored) {}
+                }
+            }
+        }
+    }
+
+    public enum Kind {
+        LIST,
+        CREATIVE,
+        ADVANCEMENTS,
+        SCREEN
+    }
+}
@@ -0,0 +1,247 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import net.minecraft.screen.slot.Slot;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Uniform grid index of the slot centres of a handled screen, relative to the top-left corner of its GUI.
+ * <p>
+ * Queries only visit the cells around the searched position and compare squared distances.
+ * The directional neighbours of every slot are computed once per layout into a compact adjacency table.
+ */
+public class SlotGrid {
+    /**
+     * The direction pointing to the first slot of the next container section.
+     */
+    public static final int NEXT_SECTION = 4;
+    private static final int DIRECTIONS = 5;
+    private static final int CELL_SIZE = 18;
+
+    private final List<Slot> slots;
+    private final int size;
+    private final Slot first;
+    private final Slot last;
+    private final int[] xs;
+    private final int[] ys;
+    private final int minX;
+    private final int minY;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStarts;
+    private final int[] cellSlots;
+    private int[] neighbours;
+
+    public SlotGrid(@NotNull List<Slot> slots) {
+        this.slots = slots;
+        this.size = slots.size();
+        this.first = this.size == 0 ? null : slots.get(0);
+        this.last = this.size == 0 ? null : slots.get(this.size - 1);
+        this.xs = new int[this.size];
+        this.ys = new int[this.size];
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < this.size; i++) {
+            var slot = slots.get(i);
+            this.xs[i] = slot.x + 8;
+            this.ys[i] = slot.y + 8;
+            minX = Math.min(minX, this.xs[i]);
+            minY = Math.min(minY, this.ys[i]);
+            maxX = Math.max(maxX, this.xs[i]);
+            maxY = Math.max(maxY, this.ys[i]);
+        }
+        if (this.size == 0) minX = minY = maxX = maxY = 0;
+        this.minX = minX;
+        this.minY = minY;
+        this.columns = (maxX - minX) / CELL_SIZE + 1;
+        this.rows = (maxY - minY) / CELL_SIZE + 1;
+
+        // Counting sort of the slots by cell.
+        this.cellStarts = new int[this.columns * this.rows + 1];
+        for (int i = 0; i < this.size; i++)
+            ++this.cellStarts[this.cellOf(i) + 1];
+        for (int cell = 0; cell < this.columns * this.rows; cell++)
+            this.cellStarts[cell + 1] += this.cellStarts[cell];
+        this.cellSlots = new int[this.size];
+        int[] fill = new int[this.columns * this.rows];
+        for (int i = 0; i < this.size; i++) {
+            int cell = this.cellOf(i);
+            this.cellSlots[this.cellStarts[cell] + fill[cell]++] = i;
+        }
+    }
+
+    /**
+     * Returns whether this index still describes the specified slot list.
+     *
+     * @param slots the slot list
+     * @return true if the slot list did not change, else false
+     */
+    public boolean isValid(@NotNull List<Slot> slots) {
+        return slots == this.slots && slots.size() == this.size
+                && (this.size == 0 || (slots.get(0) == this.first && slots.get(this.size - 1) == this.last));
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public Slot getSlot(int index) {
+        return this.slots.get(index);
+    }
+
+    /**
+     * Gets the index of a slot, usually its ID.
+     *
+     * @param slot the slot
+     * @return the index of the slot, or -1 if the slot is not indexed
+     */
+    public int indexOf(@NotNull Slot slot) {
+        if (slot.id >= 0 && slot.id < this.size && this.slots.get(slot.id) == slot)
+            return slot.id;
+        return this.slots.indexOf(slot);
+    }
+
+    /**
+     * Gets the X coordinate of the centre of a slot, relative to the GUI.
+     */
+    public int getX(int index) {
+        return this.xs[index];
+    }
+
+    /**
+     * Gets the Y coordinate of the centre of a slot, relative to the GUI.
+     */
+    public int getY(int index) {
+        return this.ys[index];
+    }
+
+    /**
+     * Finds the slot closest to a position.
+     *
+     * @param x the X position, relative to the GUI
+     * @param y the Y position, relative to the GUI
+     * @param maxDistance the maximum distance between the position and the slot centre
+     * @return the index of the closest slot, or -1 if no slot is close enough
+     */
+    public int findClosest(int x, int y, int maxDistance) {
+        if (this.size == 0) return -1;
+        int reach = maxDistance / CELL_SIZE + 1;
+        int cellX = Math.floorDiv(x - this.minX, CELL_SIZE);
+        int cellY = Math.floorDiv(y - this.minY, CELL_SIZE);
+        long maxDistanceSq = (long) maxDistance * maxDistance;
+
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (int column = Math.max(cellX - reach, 0); column <= Math.min(cellX + reach, this.columns - 1); column++) {
+            for (int row = Math.max(cellY - reach, 0); row <= Math.min(cellY + reach, this.rows - 1); row++) {
+                int cell = row * this.columns + column;
+                for (int j = this.cellStarts[cell]; j < this.cellStarts[cell + 1]; j++) {
+                    int i = this.cellSlots[j];
+                    long distance = this.distanceSq(i, x, y);
+                    if (distance <= maxDistanceSq && (distance < bestDistance || (distance == bestDistance && i < best))) {
+                        best = i;
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the slot closest to a position in the specified direction.
+     *
+     * @param x the X position, relative to the GUI
+     * @param y the Y position, relative to the GUI
+     * @param direction the direction, 0 for up, 1 for down, 2 for right and 3 for left
+     * @param excluded the index of a slot to ignore, or -1
+     * @return the index of the closest slot, or -1 if there is no slot in that direction
+     */
+    public int findClosestInDirection(int x, int y, int direction, int excluded) {
+        if (this.size == 0) return -1;
+        int cellX = Math.floorDiv(x - this.minX, CELL_SIZE);
+        int cellY = Math.floorDiv(y - this.minY, CELL_SIZE);
+        int maxRing = Math.max(Math.max(cellX, this.columns - 1 - cellX), Math.max(cellY, this.rows - 1 - cellY));
+
+        int best = -1;
+        long bestDistance = Long.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Slots in this ring are further than this from the position.
+            long ringDistance = (long) (ring - 1) * CELL_SIZE;
+            if (best != -1 && ring > 0 && bestDistance < ringDistance * ringDistance) break;
+
+            for (int column = cellX - ring; column <= cellX + ring; column++) {
+                if (column < 0 || column >= this.columns) continue;
+                boolean edge = column == cellX - ring || column == cellX + ring;
+                for (int row = cellY - ring; row <= cellY + ring; row += edge ? 1 : Math.max(2 * ring, 1)) {
+                    if (row < 0 || row >= this.rows) continue;
+                    int cell = row * this.columns + column;
+                    for (int j = this.cellStarts[cell]; j < this.cellStarts[cell + 1]; j++) {
+                        int i = this.cellSlots[j];
+                        if (i == excluded || !isInDirection(this.xs[i] - x, this.ys[i] - y, direction)) continue;
+                        long distance = this.distanceSq(i, x, y);
+                        if (distance < bestDistance || (distance == bestDistance && i < best)) {
+                            best = i;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the precomputed neighbour of a slot.
+     *
+     * @param index the index of the slot
+     * @param direction the direction, 0 for up, 1 for down, 2 for right, 3 for left, or {@link #NEXT_SECTION}
+     * @return the index of the neighbour slot, or -1 if there is none
+     */
+    public int getNeighbour(int index, int direction) {
+        if (direction < 0 || direction >= DIRECTIONS) return -1;
+        if (this.neighbours == null) this.neighbours = this.buildNeighbours();
+        return this.neighbours[index * DIRECTIONS + direction];
+    }
+
+    private int[] buildNeighbours() {
+        var neighbours = new int[this.size * DIRECTIONS];
+        for (int i = 0; i < this.size; i++) {
+            for (int direction = 0; direction < NEXT_SECTION; direction++)
+                neighbours[i * DIRECTIONS + direction] = this.findClosestInDirection(this.xs[i], this.ys[i], direction, i);
+        }
+
+        // Sections are runs of consecutive slots sharing the same inventory.
+        int sectionStart = 0;
+        for (int i = 1; i <= this.size; i++) {
+            if (i < this.size && this.slots.get(i).inventory == this.slots.get(sectionStart).inventory) continue;
+            int next = i < this.size ? i : 0;
+            if (next == sectionStart) next = -1;
+            for (int j = sectionStart; j < i; j++)
+                neighbours[j * DIRECTIONS + NEXT_SECTION] = next;
+            sectionStart = i;
+        }
+        return neighbours;
+    }
+
+    static boolean isInDirection(int deltaX, int deltaY, int direction) {
+        return switch (direction) {
+            case 0 -> deltaY < 0;
+            case 1 -> deltaY > 0;
+            case 2 -> deltaX > 0;
+            case 3 -> deltaX < 0;
+            default -> false;
+        };
+    }
+
+    private long distanceSq(int index, int x, int y) {
+        long deltaX = this.xs[index] - x;
+        long deltaY = this.ys[index] - y;
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    private int cellOf(int index) {
+        return ((this.ys[index] - this.minY) / CELL_SIZE) * this.columns + (this.xs[index] - this.minX) / CELL_SIZE;
+    }
+}
@@ -0,0 +1,109 @@
+package eu.midnightdust.midnightcontrols.client.util;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.resource.language.I18n;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cache of the translations and text widths used every frame by the HUD, the controls list and the ring.
+ * <p>
+ * Entries are keyed by translation key for the current language, and dropped when the language or the resources are reloaded.
+ */
+public class TranslationCache {
+    private static final Object2ObjectOpenHashMap<String, Entry> ENTRIES = new Object2ObjectOpenHashMap<>();
+    private static String language = null;
+
+    /**
+     * Translates the specified key.
+     *
+     * @param key the translation key
+     * @return the translated text, or the key if it has no translation
+     */
+    public static @NotNull String translate(@NotNull String key) {
+        return get(key).text;
+    }
+
+    /**
+     * Returns whether the specified key has a translation in the current language.
+     *
+     * @param key the translation key
+     * @return true if the key is translated, else false
+     */
+    public static boolean hasTranslation(@NotNull String key) {
+        return get(key).translated;
+    }
+
+    /**
+     * Gets the width of the translated text.
+     *
+     * @param textRenderer the text renderer
+     * @param key the translation key
+     * @return the width of the translated text
+     */
+    public static int getWidth(@NotNull TextRenderer textRenderer, @NotNull String key) {
+        var entry = get(key);
+        if (entry.width == -1)
+            entry.width = textRenderer.getWidth(entry.text);
+        return entry.width;
+    }
+
+    /**
+     * Gets the translated text wrapped into lines of the specified width.
+     *
+     * @param textRenderer the text renderer
+     * @param key the translation key
+     * @param width the maximum width of a line
+     * @return the wrapped lines
+     */
+    public static @NotNull List<OrderedText> wrapLines(@NotNull TextRenderer textRenderer, @NotNull String key, int width) {
+        var entry = get(key);
+        if (entry.lines == null || entry.linesWidth != width) {
+            entry.lines = textRenderer.wrapLines(Text.literal(entry.text), width);
+            entry.linesWidth = width;
+        }
+        return entry.lines;
+    }
+
+    /**
+     * Drops every cached entry, called when the resources are reloaded.
+     */
+    public static void clear() {
+        ENTRIES.clear();
+        language = null;
+    }
+
+    private static Entry get(String key) {
+        var languageManager = MinecraftClient.getInstance().getLanguageManager();
+        String currentLanguage = languageManager == null ? "" : languageManager.getLanguage();
+        if (!Objects.equals(currentLanguage, language)) {
+            ENTRIES.clear();
+            language = currentLanguage;
+        }
+        var entry = ENTRIES.get(key);
+        if (entry == null) {
+            entry = new Entry(I18n.translate(key), I18n.hasTranslation(key));
+            ENTRIES.put(key, entry);
+        }
+        return entry;
+    }
+
+    private static class Entry {
+        private final String text;
+        private final boolean translated;
+        private int width = -1;
+        private List<OrderedText> lines;
+        private int linesWidth;
+
+        private Entry(String text, boolean translated) {
+            this.text = text;
+            this.translated = translated;
+        }
+    }
+}
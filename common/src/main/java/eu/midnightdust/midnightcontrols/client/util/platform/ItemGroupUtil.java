@@ -4,7 +4,6 @@ import dev.architectury.injectables.annotations.ExpectPlatform;
 import eu.midnightdust.midnightcontrols.client.mixin.CreativeInventoryScreenAccessor;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.ingame.CreativeInventoryScreen;
-import net.minecraft.client.gui.widget.PressableWidget;
 import net.minecraft.item.ItemGroup;
 import net.minecraft.item.ItemGroups;
 import org.jetbrains.annotations.NotNull;
@@ -17,25 +16,6 @@ public class ItemGroupUtil {
         throw new AssertionError();
     }
 
-    public static boolean cyclePage(boolean next, CreativeInventoryScreen screen) {
-        try {
-            return screen.children().stream().filter(element -> element instanceof PressableWidget)
-                    .map(element -> (PressableWidget) element)
-                    .filter(element -> element.getMessage() != null && element.getMessage().getContent() != null)
-                    .anyMatch(element -> {
-                        if (next && element.getMessage().getString().equals(">")) {
-                            element.onPress();
-                            return true;
-                        } else if (element.getMessage().getString().equals("<")) {
-                            element.onPress();
-                            return true;
-                        }
-                        return false;
-                    });
-        } catch (Exception ignored) {}
-        return false;
-    }
-
     public static @NotNull ItemGroup cycleTab(boolean next, MinecraftClient client) {
         ItemGroup currentTab = CreativeInventoryScreenAccessor.getSelectedTab();
         int currentColumn = currentTab.getColumn();